@@ -0,0 +1,72 @@
+#!/bin/bash
+
+# Define directories and paths
+SOURCE_DIR="src"
+BENCH_DIR="bench/src"
+OUTPUT_DIR="out"
+LIB_DIR="lib"
+JSON_JAR="json.jar"
+JMH_JARS="$LIB_DIR/jmh-core-1.37.jar;$LIB_DIR/jmh-generator-annprocess-1.37.jar;$LIB_DIR/jopt-simple-5.0.4.jar;$LIB_DIR/commons-math3-3.6.1.jar"
+BENCHMARK="${1:-bench.ScoringBenchmark}"
+
+# Create output directories if they don't exist
+mkdir -p $OUTPUT_DIR/production/PointSalad
+mkdir -p $OUTPUT_DIR/bench/PointSalad
+cp -r src/resources/* "$OUTPUT_DIR/production/PointSalad/"
+
+# Compile the source code
+echo "Compiling source code..."
+javac -d $OUTPUT_DIR/production/PointSalad \
+    -cp $LIB_DIR/$JSON_JAR \
+    $SOURCE_DIR/network/*.java \
+    $SOURCE_DIR/player/*.java \
+    $SOURCE_DIR/game/*.java \
+    $SOURCE_DIR/card/*.java \
+    $SOURCE_DIR/piles/*.java \
+    $SOURCE_DIR/market/*.java \
+    $SOURCE_DIR/scoring/*.java \
+    $SOURCE_DIR/engine/*.java \
+    $SOURCE_DIR/app/*.java
+
+# Check if compilation was successful
+if [ $? -ne 0 ]; then
+    echo "Source code compilation failed."
+    exit 1
+fi
+
+# Compile the card manifest into the binary catalog (the JSON manifest stays as a fallback)
+echo "Compiling card catalog..."
+java -cp "$OUTPUT_DIR/production/PointSalad;$LIB_DIR/$JSON_JAR" card.CardCatalogCompiler \
+    src/resources/PointSaladManifest.json "$OUTPUT_DIR/production/PointSalad/PointSaladCatalog.bin"
+
+# Check if catalog compilation was successful
+if [ $? -ne 0 ]; then
+    echo "Card catalog compilation failed."
+    exit 1
+fi
+
+# Compile the benchmarks (the JMH annotation processor generates the harness code)
+echo "Compiling benchmarks..."
+javac -d "$OUTPUT_DIR/bench/PointSalad" \
+    -cp "$OUTPUT_DIR/production/PointSalad;$JMH_JARS;$LIB_DIR/$JSON_JAR" \
+    -processorpath "$JMH_JARS" \
+    $BENCH_DIR/bench/*.java
+
+# Check if benchmark compilation was successful
+if [ $? -ne 0 ]; then
+    echo "Benchmark compilation failed."
+    exit 1
+fi
+
+# Run the benchmarks with the gc profiler to report allocation rates
+echo "Running $BENCHMARK..."
+java -cp "$OUTPUT_DIR/production/PointSalad;$OUTPUT_DIR/bench/PointSalad;$JMH_JARS;$LIB_DIR/$JSON_JAR" \
+    org.openjdk.jmh.Main "$BENCHMARK" -prof gc -rf csv -rff "$OUTPUT_DIR/bench/results.csv"
+
+# Check if the benchmark run was successful
+if [ $? -ne 0 ]; then
+    echo "Benchmark execution failed."
+    exit 1
+fi
+
+echo "Benchmark results written to $OUTPUT_DIR/bench/results.csv"
@@ -0,0 +1,170 @@
+package bench;
+
+import card.ICard;
+import card.SaladCard;
+import card.SaladCardCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import piles.IPile;
+import piles.SaladPileInitializer;
+import player.BotPlayer;
+import player.IPlayer;
+import scoring.CompleteSetRule;
+import scoring.EvenOddRule;
+import scoring.GeneratedScoreCalc;
+import scoring.IScoreCalculator;
+import scoring.IScoringRule;
+import scoring.MostFewestRule;
+import scoring.PlusRule;
+import scoring.SaladScoreCalc;
+import scoring.SlashRule;
+import scoring.TableScoreCalc;
+import scoring.VegetableTypeRule;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the score calculators.
+ * Every player at the table gets a hand of the given size, where the criteria cards
+ * come from one criteria family of PointSaladManifest.json and the rest are vegetables.
+ * Run with the gc profiler (see bench/benchmarks.sh) to also report the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringBenchmark {
+    @Param({"salad", "table", "generated"})
+    public String calculator;
+
+    @Param({"ALL", "MOST_FEWEST", "EVEN_ODD", "SLASH", "PLUS", "TYPE_SET"})
+    public String family;
+
+    @Param({"4", "12", "24"})
+    public int handSize;
+
+    @Param({"2", "4", "6"})
+    public int players;
+
+    private IScoreCalculator scoreCalculator;
+    private ArrayList<IPlayer> table;
+    private IPlayer scored;
+    private ICard candidate;
+
+    /**
+     * Deals the hands for every player from a full six-player deck.
+     *
+     * @throws IOException if the card manifest can't be loaded
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        switch (calculator) {
+            case "table": scoreCalculator = new TableScoreCalc(new SaladCardCounter()); break;
+            case "generated": scoreCalculator = new GeneratedScoreCalc(new SaladCardCounter()); break;
+            default: scoreCalculator = new SaladScoreCalc(new SaladCardCounter()); break;
+        }
+
+        ArrayList<ICard> criteriaCards = new ArrayList<>();
+        ArrayList<ICard> veggieCards = new ArrayList<>();
+        for (IPile pile : new SaladPileInitializer(6).getPiles()) {
+            for (ICard card : pile.getCards()) {
+                boolean criteria = "ALL".equals(family)
+                        ? criteriaCards.size() < veggieCards.size() / 2
+                        : inFamily(card.getScoringRule());
+                if (criteria) {
+                    criteriaCards.add(card);
+                } else {
+                    veggieCards.add(card);
+                }
+            }
+        }
+        Random random = new Random(42);
+        Collections.shuffle(criteriaCards, random);
+        Collections.shuffle(veggieCards, random);
+
+        // About a third of a hand is criteria cards, like in a typical game
+        table = new ArrayList<>();
+        int nextCriteria = 0;
+        int nextVeggie = 0;
+        for (int p = 0; p < players; p++) {
+            IPlayer player = new BotPlayer(p, false, true, null, null, null);
+            for (int i = 0; i < handSize; i++) {
+                ICard card;
+                if (i % 3 == 0) {
+                    card = copy(criteriaCards.get(nextCriteria++ % criteriaCards.size()));
+                } else {
+                    card = copy(veggieCards.get(nextVeggie++ % veggieCards.size()));
+                    card.setCriteriaSideUp(false);
+                }
+                player.getHand().add(card);
+            }
+            table.add(player);
+        }
+        scored = table.get(0);
+        candidate = copy(criteriaCards.get(nextCriteria % criteriaCards.size()));
+    }
+
+    /**
+     * Scores one player's full hand.
+     *
+     * @return The score, consumed by JMH
+     */
+    @Benchmark
+    public int calculateScore() {
+        return scoreCalculator.calculateScore(scored.getHand(), scored, table);
+    }
+
+    /**
+     * Scores every player at the table.
+     *
+     * @return The scores, consumed by JMH
+     */
+    @Benchmark
+    public int[] scoreAll() {
+        return scoreCalculator.scoreAll(table);
+    }
+
+    /**
+     * Evaluates the score change of taking one more criteria card.
+     *
+     * @return The score change, consumed by JMH
+     */
+    @Benchmark
+    public int scoreDelta() {
+        return scoreCalculator.scoreDelta(scored.getHand(), scored, table, candidate, null);
+    }
+
+    /**
+     * Copies a card, so that small families can be dealt to several hands.
+     */
+    private ICard copy(ICard card) {
+        return new SaladCard(card.getVegetable(), card.getCriteria(), card.getScoringRule());
+    }
+
+    private boolean inFamily(IScoringRule rule) {
+        switch (family) {
+            case "MOST_FEWEST": return rule instanceof MostFewestRule;
+            case "EVEN_ODD": return rule instanceof EvenOddRule;
+            case "SLASH": return rule instanceof SlashRule;
+            case "PLUS": return rule instanceof PlusRule;
+            case "TYPE_SET": return rule instanceof VegetableTypeRule || rule instanceof CompleteSetRule;
+            default: return true;
+        }
+    }
+}
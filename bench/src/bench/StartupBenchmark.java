@@ -0,0 +1,59 @@
+package bench;
+
+import card.CardCatalog;
+import market.SaladMarket;
+import market.SaladMarketView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import piles.SaladPileInitializer;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the time from a cold JVM to the first printed market, for the binary
+ * and the JSON card catalog loaders. Every fork measures a single cold run, so class loading
+ * and the first catalog load are included.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+    @Param({"binary", "json"})
+    public String loader;
+
+    @Param({"2", "6"})
+    public int players;
+
+    /**
+     * Loads the catalog, deals the piles and renders the market once.
+     *
+     * @return The rendered market
+     * @throws IOException if the card manifest can't be loaded
+     */
+    @Benchmark
+    public String firstMarketPrint() throws IOException {
+        CardCatalog catalog;
+        if ("binary".equals(loader)) {
+            catalog = CardCatalog.loadBinary();
+            if (catalog == null) {
+                throw new IllegalStateException(CardCatalog.BINARY_CATALOG + " is missing, run bench/benchmarks.sh");
+            }
+        } else {
+            catalog = CardCatalog.loadJson();
+        }
+        SaladPileInitializer piles = new SaladPileInitializer(players, catalog);
+        return new SaladMarketView(new SaladMarket(piles.getPiles())).printMarket();
+    }
+}
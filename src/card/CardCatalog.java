@@ -0,0 +1,317 @@
+package card;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import scoring.IScoringRule;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Immutable catalog of the cards described by the card manifest.
+ * Each manifest entry has one criteria text per vegetable; the texts are interned in the
+ * shared CriteriaCatalog and compiled once. The default catalog is loaded once per JVM
+ * and shared by every game, which only creates cards with their own side-up state.
+ * A catalog never changes after construction and is safe to share between threads.
+ *
+ * The default catalog is read from the precompiled binary catalog (see CardCatalogCompiler)
+ * when it is on the classpath and was compiled from the manifest on the classpath, and parsed
+ * from the JSON manifest otherwise, so a binary catalog left over from an older manifest is ignored.
+ * Binary layout (big-endian): magic, version, CRC-32 of the manifest bytes, entry count, text count,
+ * the texts as length-prefixed UTF-8, then one text index per entry and vegetable ordinal.
+ */
+public class CardCatalog {
+    /**
+     * Classpath resource holding the card manifest.
+     */
+    public static final String MANIFEST = "PointSaladManifest.json";
+
+    /**
+     * Classpath resource holding the precompiled binary catalog.
+     */
+    public static final String BINARY_CATALOG = "PointSaladCatalog.bin";
+
+    private static final int MAGIC = 0x50534343; // "PSCC"
+    private static final short VERSION = 2;
+
+    private static final int VEGETABLES = Vegetable.values().length;
+    private static volatile CardCatalog defaultCatalog;
+
+    private final int entries;
+    private final short[] packedCards;
+    private final int manifestHash;
+
+    /**
+     * Constructs a catalog from the criteria texts of every manifest entry.
+     *
+     * @param criteria One array per entry, holding the criteria text per vegetable ordinal
+     */
+    public CardCatalog(String[][] criteria) {
+        this(criteria, 0);
+    }
+
+    /**
+     * Constructs a catalog from the criteria texts of every manifest entry.
+     *
+     * @param criteria One array per entry, holding the criteria text per vegetable ordinal
+     * @param manifestHash The CRC-32 of the manifest the texts were read from
+     */
+    private CardCatalog(String[][] criteria, int manifestHash) {
+        this.manifestHash = manifestHash;
+        this.entries = criteria.length;
+        this.packedCards = new short[entries * VEGETABLES];
+        CriteriaCatalog shared = CriteriaCatalog.getShared();
+        for (int entry = 0; entry < entries; entry++) {
+            for (Vegetable vegetable : Vegetable.values()) {
+                int id = shared.register(criteria[entry][vegetable.ordinal()]);
+                packedCards[entry * VEGETABLES + vegetable.ordinal()] = PackedCard.pack(vegetable, id, true);
+            }
+        }
+    }
+
+    /**
+     * Gets the catalog of the card manifest on the classpath, loading it on first use.
+     *
+     * @return The shared default catalog
+     * @throws IOException if the manifest can't be loaded
+     */
+    public static CardCatalog getDefault() throws IOException {
+        CardCatalog catalog = defaultCatalog;
+        if (catalog == null) {
+            synchronized (CardCatalog.class) {
+                catalog = defaultCatalog;
+                if (catalog == null) {
+                    catalog = loadBinary();
+                    if (catalog == null || !catalog.matchesManifest()) {
+                        catalog = loadJson();
+                    }
+                    defaultCatalog = catalog;
+                }
+            }
+        }
+        return catalog;
+    }
+
+    /**
+     * Loads the precompiled binary catalog from the classpath, without caching it.
+     * A catalog file on disk is memory-mapped; one inside a jar is read in a single call.
+     *
+     * @return The loaded catalog, or null if the binary catalog is missing or not readable
+     */
+    public static CardCatalog loadBinary() {
+        URL url = CardCatalog.class.getClassLoader().getResource(BINARY_CATALOG);
+        if (url == null) {
+            return null;
+        }
+        try {
+            ByteBuffer buffer;
+            if ("file".equals(url.getProtocol())) {
+                try (FileChannel channel = FileChannel.open(Paths.get(url.toURI()), StandardOpenOption.READ)) {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            } else {
+                try (InputStream inputStream = url.openStream()) {
+                    buffer = ByteBuffer.wrap(inputStream.readAllBytes());
+                }
+            }
+            return fromBinary(buffer);
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Loads the card manifest JSON from the classpath, without caching it.
+     *
+     * @return The loaded catalog
+     * @throws IOException if the manifest can't be read
+     */
+    public static CardCatalog loadJson() throws IOException {
+        try (InputStream inputStream = CardCatalog.class.getClassLoader().getResourceAsStream(MANIFEST)) {
+            if (inputStream == null) {
+                throw new IOException(MANIFEST + " not found in the classpath.");
+            }
+            return fromJson(inputStream);
+        } catch (IOException e) {
+            throw new IOException("Couldn't load " + MANIFEST, e);
+        }
+    }
+
+    /**
+     * Parses a card manifest in JSON form.
+     *
+     * @param inputStream The manifest JSON
+     * @return The parsed catalog
+     * @throws IOException if the manifest can't be read
+     */
+    public static CardCatalog fromJson(InputStream inputStream) throws IOException {
+        byte[] manifest = inputStream.readAllBytes();
+        String jsonString = new String(manifest, StandardCharsets.UTF_8);
+        JSONArray cardsArray = new JSONObject(jsonString).getJSONArray("cards");
+
+        String[][] criteria = new String[cardsArray.length()][VEGETABLES];
+        for (int i = 0; i < cardsArray.length(); i++) {
+            JSONObject criteriaObj = cardsArray.getJSONObject(i).getJSONObject("criteria");
+            for (Vegetable vegetable : Vegetable.values()) {
+                criteria[i][vegetable.ordinal()] = criteriaObj.getString(vegetable.name());
+            }
+        }
+        return new CardCatalog(criteria, hash(manifest));
+    }
+
+    /**
+     * Decodes a binary catalog.
+     *
+     * @param buffer The binary catalog, read from its current position
+     * @return The decoded catalog
+     * @throws IllegalArgumentException if the buffer isn't a valid binary catalog
+     */
+    public static CardCatalog fromBinary(ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+                throw new IllegalArgumentException("Not a binary card catalog of version " + VERSION);
+            }
+            int manifestHash = buffer.getInt();
+            int entries = buffer.getInt();
+            String[] texts = new String[buffer.getShort() & 0xFFFF];
+            for (int t = 0; t < texts.length; t++) {
+                byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+                buffer.get(bytes);
+                texts[t] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            String[][] criteria = new String[entries][VEGETABLES];
+            for (int entry = 0; entry < entries; entry++) {
+                for (int v = 0; v < VEGETABLES; v++) {
+                    criteria[entry][v] = texts[buffer.getShort() & 0xFFFF];
+                }
+            }
+            return new CardCatalog(criteria, manifestHash);
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated or corrupt binary card catalog", e);
+        }
+    }
+
+    /**
+     * Writes the catalog in binary form, readable by fromBinary.
+     *
+     * @param outputStream The stream to write to
+     * @throws IOException if writing fails
+     */
+    public void writeBinary(OutputStream outputStream) throws IOException {
+        HashMap<String, Integer> indices = new HashMap<>();
+        String[] texts = new String[entries * VEGETABLES];
+        short[] textIndex = new short[entries * VEGETABLES];
+        for (int i = 0; i < textIndex.length; i++) {
+            String text = CriteriaCatalog.getShared().getCriteria(PackedCard.criteriaId(packedCards[i]));
+            Integer index = indices.get(text);
+            if (index == null) {
+                index = indices.size();
+                indices.put(text, index);
+                texts[index] = text;
+            }
+            textIndex[i] = (short) (int) index;
+        }
+
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeInt(manifestHash);
+        out.writeInt(entries);
+        out.writeShort(indices.size());
+        for (int t = 0; t < indices.size(); t++) {
+            byte[] bytes = texts[t].getBytes(StandardCharsets.UTF_8);
+            out.writeShort(bytes.length);
+            out.write(bytes);
+        }
+        for (short index : textIndex) {
+            out.writeShort(index);
+        }
+        out.flush();
+    }
+
+    /**
+     * Checks if the catalog was read from the manifest on the classpath, by comparing the
+     * manifest's CRC-32 with the one recorded when the catalog was compiled.
+     *
+     * @return true if the manifest is unchanged or isn't on the classpath
+     */
+    public boolean matchesManifest() {
+        try (InputStream inputStream = CardCatalog.class.getClassLoader().getResourceAsStream(MANIFEST)) {
+            return inputStream == null || hash(inputStream.readAllBytes()) == manifestHash;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Gets the number of manifest entries. Each entry yields one card per vegetable.
+     *
+     * @return The entry count
+     */
+    public int size() {
+        return entries;
+    }
+
+    private static int hash(byte[] manifest) {
+        CRC32 crc = new CRC32();
+        crc.update(manifest);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Gets the packed form of a card, with criteria side up.
+     *
+     * @param entry The manifest entry
+     * @param vegetable The vegetable side of the card
+     * @return The packed card
+     */
+    public short getPackedCard(int entry, Vegetable vegetable) {
+        return packedCards[entry * VEGETABLES + vegetable.ordinal()];
+    }
+
+    /**
+     * Gets the criteria text of a card.
+     *
+     * @param entry The manifest entry
+     * @param vegetable The vegetable side of the card
+     * @return The criteria text
+     */
+    public String getCriteria(int entry, Vegetable vegetable) {
+        return CriteriaCatalog.getShared().getCriteria(PackedCard.criteriaId(getPackedCard(entry, vegetable)));
+    }
+
+    /**
+     * Gets the compiled scoring rule of a card.
+     *
+     * @param entry The manifest entry
+     * @param vegetable The vegetable side of the card
+     * @return The compiled rule
+     */
+    public IScoringRule getScoringRule(int entry, Vegetable vegetable) {
+        return CriteriaCatalog.getShared().getScoringRule(PackedCard.criteriaId(getPackedCard(entry, vegetable)));
+    }
+
+    /**
+     * Creates a new card for one game, criteria side up.
+     * The criteria text and rule are shared; only the side state belongs to the new card.
+     *
+     * @param entry The manifest entry
+     * @param vegetable The vegetable side of the card
+     * @return The new card
+     */
+    public ICard createCard(int entry, Vegetable vegetable) {
+        return PackedCard.toCard(getPackedCard(entry, vegetable));
+    }
+}
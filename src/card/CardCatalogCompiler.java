@@ -0,0 +1,40 @@
+package card;
+
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Build step that compiles the JSON card manifest into the binary card catalog.
+ * The catalog records the CRC-32 of the manifest, so it is ignored once the manifest changes
+ * until it is compiled again.
+ * Usage: java card.CardCatalogCompiler &lt;manifest.json&gt; &lt;catalog.bin&gt;
+ */
+public class CardCatalogCompiler {
+    private CardCatalogCompiler() {
+    }
+
+    /**
+     * Reads the manifest and writes the binary catalog.
+     *
+     * @param args The manifest path and the output path
+     * @throws IOException if a file can't be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: java card.CardCatalogCompiler <manifest.json> <catalog.bin>");
+            System.exit(1);
+        }
+        CardCatalog catalog;
+        try (InputStream inputStream = new FileInputStream(args[0])) {
+            catalog = CardCatalog.fromJson(inputStream);
+        }
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(args[1]))) {
+            catalog.writeBinary(outputStream);
+        }
+        System.out.println("Compiled " + catalog.size() + " manifest entries into " + args[1]);
+    }
+}
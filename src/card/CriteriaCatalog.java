@@ -0,0 +1,111 @@
+package card;
+
+import scoring.IScoringRule;
+import scoring.ScoringRuleCompiler;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Flyweight table of the distinct criteria texts and their compiled scoring rules.
+ * Each criteria text is stored once and referred to by a small id, so packed cards
+ * only carry the id. Id 0 is reserved for cards without criteria.
+ * Lookups by id, and of the id of a known text, never lock and are safe from any thread.
+ */
+public class CriteriaCatalog {
+    /**
+     * Largest number of criteria ids a catalog can hold, bounded by the packed card layout.
+     */
+    public static final int MAX_SIZE = 1 << PackedCard.CRITERIA_BITS;
+
+    private static final CriteriaCatalog shared = new CriteriaCatalog();
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] criteria = new String[]{null};
+    private volatile IScoringRule[] rules = new IScoringRule[]{IScoringRule.NONE};
+
+    /**
+     * Constructs a new catalog holding only the empty criteria.
+     */
+    public CriteriaCatalog() {
+    }
+
+    /**
+     * Gets the catalog shared by every packed card in the JVM.
+     *
+     * @return The shared catalog
+     */
+    public static CriteriaCatalog getShared() {
+        return shared;
+    }
+
+    /**
+     * Gets the id of a criteria text, adding it to the catalog on first use.
+     *
+     * @param text The criteria text, may be null
+     * @return The criteria id
+     * @throws IllegalStateException if the catalog is full
+     */
+    public int register(String text) {
+        if (text == null) {
+            return 0;
+        }
+        Integer id = ids.get(text);
+        return id != null ? id : add(text);
+    }
+
+    /**
+     * Adds a criteria text under the catalog lock, unless another thread just added it.
+     *
+     * @param text The criteria text
+     * @return The criteria id
+     */
+    private synchronized int add(String text) {
+        Integer id = ids.get(text);
+        if (id != null) {
+            return id;
+        }
+        int next = criteria.length;
+        if (next >= MAX_SIZE) {
+            throw new IllegalStateException("Criteria catalog is full (" + MAX_SIZE + " entries)");
+        }
+        IScoringRule[] grownRules = Arrays.copyOf(rules, next + 1);
+        grownRules[next] = ScoringRuleCompiler.compile(text);
+        String[] grownCriteria = Arrays.copyOf(criteria, next + 1);
+        grownCriteria[next] = text;
+        // Publish the rules first so a reader that sees the new text also sees its rule
+        rules = grownRules;
+        criteria = grownCriteria;
+        ids.put(text, next);
+        return next;
+    }
+
+    /**
+     * Gets the criteria text of an id.
+     *
+     * @param id The criteria id
+     * @return The criteria text, or null for id 0
+     */
+    public String getCriteria(int id) {
+        return criteria[id];
+    }
+
+    /**
+     * Gets the compiled scoring rule of an id.
+     *
+     * @param id The criteria id
+     * @return The compiled rule
+     */
+    public IScoringRule getScoringRule(int id) {
+        return rules[id];
+    }
+
+    /**
+     * Gets the number of ids in the catalog, including the empty criteria.
+     *
+     * @return The catalog size
+     */
+    public int size() {
+        return criteria.length;
+    }
+}
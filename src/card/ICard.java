@@ -1,5 +1,7 @@
 package card;
 
+import scoring.IScoringRule;
+
 /**
  * Represents a game card with two displayable sides (criteria and vegetable).
  * Defines the core behavior that all game cards must implement.
@@ -34,6 +36,28 @@ public interface ICard {
      */
     String getCriteria();
 
+    /**
+     * Gets the compiled scoring rule for the criteria side of the card.
+     *
+     * @return The compiled rule, never null
+     */
+    IScoringRule getScoringRule();
+
+    /**
+     * Gets the id of the criteria text in CriteriaCatalog.getShared(), resolved once per card.
+     *
+     * @return The criteria id, or 0 if not a criteria card
+     */
+    int getCriteriaId();
+
+    /**
+     * Sets the listener notified when the card is flipped.
+     * Used by hands to keep their vegetable counts up to date.
+     *
+     * @param listener The listener to notify, or null to stop notifications
+     */
+    void setSideListener(ICardSideListener listener);
+
     /**
      * Returns a string representation of the card's current state.
      *
@@ -1,11 +1,22 @@
 package card;
 
-import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Provides counting operations for vegetable cards in a player's hand.
  */
 public interface ICardCounter {
+    /**
+     * Index of the total vegetable count in a histogram.
+     * Indices below it are the counts per Vegetable ordinal.
+     */
+    int TOTAL = 6;
+
+    /**
+     * Number of entries in a vegetable histogram (one per vegetable type plus the total).
+     */
+    int HISTOGRAM_SIZE = TOTAL + 1;
+
     /**
      * Counts occurrences of a specific vegetable in the hand.
      * Only counts cards with vegetable side up.
@@ -14,7 +25,7 @@ public interface ICardCounter {
      * @param vegetable The vegetable type to count
      * @return Number of matching vegetable cards found
      */
-    int countVegetables(ArrayList<ICard> hand, Vegetable vegetable);
+    int countVegetables(List<ICard> hand, Vegetable vegetable);
 
     /**
      * Counts all vegetable cards in the hand (any type).
@@ -23,5 +34,32 @@ public interface ICardCounter {
      * @param hand The player's hand to search through
      * @return Total number of vegetable cards found
      */
-    int countTotalVegetables(ArrayList<ICard> hand);
+    int countTotalVegetables(List<ICard> hand);
+
+    /**
+     * Counts every vegetable type and the total in a single pass over the hand.
+     * Only counts cards with vegetable side up.
+     *
+     * @param hand The player's hand to search through
+     * @param histogram Array of HISTOGRAM_SIZE entries to fill with the counts
+     * @return The filled histogram
+     */
+    int[] countHistogram(List<ICard> hand, int[] histogram);
+
+    /**
+     * Looks up the count of a specific vegetable in a histogram.
+     *
+     * @param histogram Histogram filled by countHistogram
+     * @param vegetable The vegetable type to look up
+     * @return Number of matching vegetable cards
+     */
+    int countVegetables(int[] histogram, Vegetable vegetable);
+
+    /**
+     * Looks up the total vegetable count in a histogram.
+     *
+     * @param histogram Histogram filled by countHistogram
+     * @return Total number of vegetable cards
+     */
+    int countTotalVegetables(int[] histogram);
 }
\ No newline at end of file
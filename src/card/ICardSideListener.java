@@ -0,0 +1,13 @@
+package card;
+
+/**
+ * Receives notifications when a card is flipped between its criteria and vegetable side.
+ */
+public interface ICardSideListener {
+    /**
+     * Called after the face-up side of a card has changed.
+     *
+     * @param card The card that was flipped
+     */
+    void sideChanged(ICard card);
+}
@@ -0,0 +1,47 @@
+package card;
+
+import java.util.List;
+
+/**
+ * Represents a player's hand of cards.
+ * Keeps live vegetable counts and the face-up criteria cards,
+ * updated whenever cards are added, removed or flipped.
+ */
+public interface IHand extends List<ICard> {
+    /**
+     * Gets the number of cards of a specific vegetable with vegetable side up.
+     *
+     * @param vegetable The vegetable type to count
+     * @return Number of matching vegetable cards
+     */
+    int countVegetables(Vegetable vegetable);
+
+    /**
+     * Gets the number of cards with vegetable side up.
+     *
+     * @return Total number of vegetable cards
+     */
+    int countTotalVegetables();
+
+    /**
+     * Copies the live vegetable counts into a histogram.
+     *
+     * @param histogram Array of ICardCounter.HISTOGRAM_SIZE entries to fill
+     * @return The filled histogram
+     */
+    int[] copyHistogram(int[] histogram);
+
+    /**
+     * Gets the cards currently showing their criteria side, in hand order.
+     *
+     * @return Read-only list of criteria cards
+     */
+    List<ICard> getCriteriaCards();
+
+    /**
+     * Gets the version of the hand, increased on every add, remove or flip.
+     *
+     * @return The current version number
+     */
+    long getVersion();
+}
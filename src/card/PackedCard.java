@@ -0,0 +1,119 @@
+package card;
+
+/**
+ * Encodes a card in the low 16 bits of an int, so cards fit in a short array:
+ * - bit 0: criteria side up
+ * - bits 1-3: vegetable ordinal
+ * - bits 4-15: criteria id in the shared CriteriaCatalog
+ * Packed cards are plain values; flipping one produces a new value.
+ */
+public final class PackedCard {
+    /**
+     * Number of bits used for the criteria id.
+     */
+    public static final int CRITERIA_BITS = 12;
+
+    /**
+     * Value used for an empty slot. No real card packs to it.
+     */
+    public static final short NONE = -1;
+
+    private static final int SIDE_BIT = 1;
+    private static final int VEGETABLE_SHIFT = 1;
+    private static final int VEGETABLE_MASK = 0x7;
+    private static final int CRITERIA_SHIFT = 4;
+    private static final int CRITERIA_MASK = (1 << CRITERIA_BITS) - 1;
+    private static final Vegetable[] VEGETABLES = Vegetable.values();
+
+    private PackedCard() {
+    }
+
+    /**
+     * Packs a card from its parts.
+     *
+     * @param vegetable The vegetable side of the card
+     * @param criteriaId The id of the criteria in the shared catalog
+     * @param criteriaSideUp true if the criteria side is up
+     * @return The packed card
+     */
+    public static short pack(Vegetable vegetable, int criteriaId, boolean criteriaSideUp) {
+        return (short) ((criteriaId << CRITERIA_SHIFT)
+                | (vegetable.ordinal() << VEGETABLE_SHIFT)
+                | (criteriaSideUp ? SIDE_BIT : 0));
+    }
+
+    /**
+     * Packs a card object, with the criteria id the card resolved in the shared catalog.
+     *
+     * @param card The card to pack
+     * @return The packed card
+     */
+    public static short pack(ICard card) {
+        return pack(card.getVegetable(), card.getCriteriaId(), card.getCriteriaSideUp());
+    }
+
+    /**
+     * Creates a card object with the same vegetable, criteria and side as a packed card.
+     *
+     * @param packed The packed card
+     * @return A new card
+     */
+    public static ICard toCard(int packed) {
+        int id = criteriaId(packed);
+        CriteriaCatalog catalog = CriteriaCatalog.getShared();
+        SaladCard card = new SaladCard(vegetable(packed), catalog.getCriteria(id), catalog.getScoringRule(id), id);
+        card.setCriteriaSideUp(isCriteriaSideUp(packed));
+        return card;
+    }
+
+    /**
+     * Gets the vegetable of a packed card.
+     *
+     * @param packed The packed card
+     * @return The vegetable
+     */
+    public static Vegetable vegetable(int packed) {
+        return VEGETABLES[vegetableOrdinal(packed)];
+    }
+
+    /**
+     * Gets the vegetable ordinal of a packed card.
+     *
+     * @param packed The packed card
+     * @return The vegetable ordinal
+     */
+    public static int vegetableOrdinal(int packed) {
+        return (packed >> VEGETABLE_SHIFT) & VEGETABLE_MASK;
+    }
+
+    /**
+     * Gets the criteria id of a packed card.
+     *
+     * @param packed The packed card
+     * @return The id in the shared catalog
+     */
+    public static int criteriaId(int packed) {
+        return (packed >> CRITERIA_SHIFT) & CRITERIA_MASK;
+    }
+
+    /**
+     * Checks which side of a packed card is up.
+     *
+     * @param packed The packed card
+     * @return true if the criteria side is up
+     */
+    public static boolean isCriteriaSideUp(int packed) {
+        return (packed & SIDE_BIT) != 0;
+    }
+
+    /**
+     * Turns a packed card to the given side.
+     *
+     * @param packed The packed card
+     * @param criteriaSideUp true to show the criteria side
+     * @return The packed card with the new side
+     */
+    public static short withCriteriaSideUp(int packed, boolean criteriaSideUp) {
+        return (short) (criteriaSideUp ? packed | SIDE_BIT : packed & ~SIDE_BIT);
+    }
+}
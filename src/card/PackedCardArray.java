@@ -0,0 +1,152 @@
+package card;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Growable array of packed cards backed by a short array.
+ * Used as a compact hand, pile or row of market slots (with PackedCard.NONE for empty slots).
+ */
+public class PackedCardArray {
+    private short[] cards;
+    private int size;
+
+    /**
+     * Constructs a new empty array.
+     *
+     * @param capacity The initial capacity
+     */
+    public PackedCardArray(int capacity) {
+        this.cards = new short[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Constructs a new array holding the packed form of the given cards.
+     *
+     * @param cards The cards to pack, in order
+     */
+    public PackedCardArray(List<ICard> cards) {
+        this(cards.size());
+        for (int i = 0; i < cards.size(); i++) {
+            add(PackedCard.pack(cards.get(i)));
+        }
+    }
+
+    /**
+     * Appends a packed card.
+     *
+     * @param card The packed card
+     */
+    public void add(short card) {
+        if (size == cards.length) {
+            cards = Arrays.copyOf(cards, size * 2);
+        }
+        cards[size++] = card;
+    }
+
+    /**
+     * Gets the packed card at a position.
+     *
+     * @param index The position
+     * @return The packed card
+     */
+    public short get(int index) {
+        checkIndex(index);
+        return cards[index];
+    }
+
+    /**
+     * Replaces the packed card at a position.
+     *
+     * @param index The position
+     * @param card The new packed card
+     * @return The replaced packed card
+     */
+    public short set(int index, short card) {
+        checkIndex(index);
+        short previous = cards[index];
+        cards[index] = card;
+        return previous;
+    }
+
+    /**
+     * Removes the packed card at a position, keeping the order of the others.
+     *
+     * @param index The position
+     * @return The removed packed card
+     */
+    public short remove(int index) {
+        checkIndex(index);
+        short removed = cards[index];
+        System.arraycopy(cards, index + 1, cards, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Removes the last packed card.
+     *
+     * @return The removed packed card
+     */
+    public short removeLast() {
+        checkIndex(size - 1);
+        return cards[--size];
+    }
+
+    /**
+     * Gets the number of packed cards.
+     *
+     * @return The size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every packed card.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Counts every vegetable type and the total of the cards with vegetable side up.
+     * Empty slots are skipped.
+     *
+     * @param histogram Array of at least ICardCounter.HISTOGRAM_SIZE entries, overwritten
+     * @return The histogram array
+     */
+    public int[] countHistogram(int[] histogram) {
+        Arrays.fill(histogram, 0, ICardCounter.HISTOGRAM_SIZE, 0);
+        for (int i = 0; i < size; i++) {
+            short card = cards[i];
+            if (card != PackedCard.NONE && !PackedCard.isCriteriaSideUp(card)) {
+                histogram[PackedCard.vegetableOrdinal(card)]++;
+                histogram[ICardCounter.TOTAL]++;
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * Creates card objects for every packed card, skipping empty slots.
+     *
+     * @return A new list of cards
+     */
+    public ArrayList<ICard> toCards() {
+        ArrayList<ICard> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (cards[i] != PackedCard.NONE) {
+                list.add(PackedCard.toCard(cards[i]));
+            }
+        }
+        return list;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
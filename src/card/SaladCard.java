@@ -1,5 +1,8 @@
 package card;
 
+import scoring.IScoringRule;
+import scoring.ScoringRuleCompiler;
+
 /**
  * Represents a game card in PointSalad with two sides:
  * - Criteria side (scoring rules)
@@ -9,6 +12,9 @@ package card;
 public class SaladCard implements ICard {
     private Vegetable vegetable;
     private String criteria;
+    private IScoringRule scoringRule;
+    private int criteriaId = -1;
+    private ICardSideListener sideListener;
     private boolean criteriaSideUp = true;
 
     /**
@@ -18,8 +24,33 @@ public class SaladCard implements ICard {
      * @param criteria The scoring rule text for the criteria side
      */
     public SaladCard(Vegetable vegetable, String criteria) {
+        this(vegetable, criteria, ScoringRuleCompiler.compile(criteria));
+    }
+
+    /**
+     * Creates a new SaladCard with an already compiled scoring rule.
+     *
+     * @param vegetable The vegetable type on the card
+     * @param criteria The scoring rule text for the criteria side
+     * @param scoringRule The compiled rule for the criteria text
+     */
+    public SaladCard(Vegetable vegetable, String criteria, IScoringRule scoringRule) {
         this.vegetable = vegetable;
         this.criteria = criteria;
+        this.scoringRule = scoringRule;
+    }
+
+    /**
+     * Creates a new SaladCard for a criteria already in the shared catalog.
+     *
+     * @param vegetable The vegetable type on the card
+     * @param criteria The scoring rule text for the criteria side
+     * @param scoringRule The compiled rule for the criteria text
+     * @param criteriaId The id of the criteria text in CriteriaCatalog.getShared()
+     */
+    public SaladCard(Vegetable vegetable, String criteria, IScoringRule scoringRule, int criteriaId) {
+        this(vegetable, criteria, scoringRule);
+        this.criteriaId = criteriaId;
     }
 
     /**
@@ -28,7 +59,22 @@ public class SaladCard implements ICard {
      * @param criteriaUp true to show criteria side, false to show vegetable side
      */
     public void setCriteriaSideUp(boolean criteriaUp) {
+        if (this.criteriaSideUp == criteriaUp) {
+            return;
+        }
         this.criteriaSideUp = criteriaUp;
+        if (sideListener != null) {
+            sideListener.sideChanged(this);
+        }
+    }
+
+    /**
+     * Sets the listener notified when the card is flipped.
+     *
+     * @param listener The listener to notify, or null to stop notifications
+     */
+    public void setSideListener(ICardSideListener listener) {
+        this.sideListener = listener;
     }
 
     /**
@@ -49,6 +95,27 @@ public class SaladCard implements ICard {
         return this.criteria;
     }
 
+    /**
+     * Gets the compiled scoring rule for the criteria text.
+     *
+     * @return The compiled scoring rule
+     */
+    public IScoringRule getScoringRule() {
+        return this.scoringRule;
+    }
+
+    /**
+     * Gets the id of the criteria text in the shared catalog, registering it on first use.
+     *
+     * @return The criteria id
+     */
+    public int getCriteriaId() {
+        if (criteriaId < 0) {
+            criteriaId = CriteriaCatalog.getShared().register(criteria);
+        }
+        return criteriaId;
+    }
+
     /**
      * Gets the vegetable type of this card.
      *
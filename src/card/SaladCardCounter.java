@@ -1,10 +1,11 @@
 package card;
 
-import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Implements ICardCounter to provide counting functionality for vegetable cards.
  * Counts specific vegetables or all vegetables in a player's hand.
+ * Hands implementing IHand are answered from their live counts without scanning.
  */
 public class SaladCardCounter implements ICardCounter {
     /**
@@ -17,11 +18,14 @@ public class SaladCardCounter implements ICardCounter {
      * Counts occurrences of a specific vegetable in the hand.
      * Only counts cards with vegetable side up.
      *
-//     * @param hand The player's hand of cards
+     * @param hand The player's hand of cards
      * @param vegetable The vegetable type to count
      * @return Number of matching vegetable cards found
      */
-    public int countVegetables(ArrayList<ICard> hand, Vegetable vegetable) {
+    public int countVegetables(List<ICard> hand, Vegetable vegetable) {
+        if (hand instanceof IHand) {
+            return ((IHand) hand).countVegetables(vegetable);
+        }
         int count = 0;
         for (ICard card : hand) {
             if (!card.getCriteriaSideUp() && card.getVegetable() == vegetable) {
@@ -38,7 +42,10 @@ public class SaladCardCounter implements ICardCounter {
      * @param hand The player's hand of cards
      * @return Total number of vegetable cards found
      */
-    public int countTotalVegetables(ArrayList<ICard> hand) {
+    public int countTotalVegetables(List<ICard> hand) {
+        if (hand instanceof IHand) {
+            return ((IHand) hand).countTotalVegetables();
+        }
         int count = 0;
         for (ICard card : hand) {
             if (!card.getCriteriaSideUp()) {
@@ -47,4 +54,52 @@ public class SaladCardCounter implements ICardCounter {
         }
         return count;
     }
+
+    /**
+     * Counts every vegetable type and the total in a single pass over the hand.
+     * Only counts cards with vegetable side up.
+     *
+     * @param hand The player's hand of cards
+     * @param histogram Array of HISTOGRAM_SIZE entries to fill with the counts
+     * @return The filled histogram
+     */
+    public int[] countHistogram(List<ICard> hand, int[] histogram) {
+        if (hand instanceof IHand) {
+            return ((IHand) hand).copyHistogram(histogram);
+        }
+        for (int i = 0; i < HISTOGRAM_SIZE; i++) {
+            histogram[i] = 0;
+        }
+        for (int i = 0; i < hand.size(); i++) {
+            ICard card = hand.get(i);
+            if (!card.getCriteriaSideUp()) {
+                if (card.getVegetable() != null) {
+                    histogram[card.getVegetable().ordinal()]++;
+                }
+                histogram[TOTAL]++;
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * Looks up the count of a specific vegetable in a histogram.
+     *
+     * @param histogram Histogram filled by countHistogram
+     * @param vegetable The vegetable type to look up
+     * @return Number of matching vegetable cards
+     */
+    public int countVegetables(int[] histogram, Vegetable vegetable) {
+        return histogram[vegetable.ordinal()];
+    }
+
+    /**
+     * Looks up the total vegetable count in a histogram.
+     *
+     * @param histogram Histogram filled by countHistogram
+     * @return Total number of vegetable cards
+     */
+    public int countTotalVegetables(int[] histogram) {
+        return histogram[TOTAL];
+    }
 }
\ No newline at end of file
@@ -0,0 +1,205 @@
+package card;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A player's hand in PointSalad with incrementally maintained vegetable counts.
+ * Listens to its cards so that flipping a card also updates the counts.
+ * Implements IHand interface.
+ */
+public class SaladHand extends AbstractList<ICard> implements IHand, ICardSideListener {
+    private final ArrayList<ICard> cards = new ArrayList<>();
+    private final ArrayList<ICard> criteriaCards = new ArrayList<>();
+    private final List<ICard> criteriaView = Collections.unmodifiableList(criteriaCards);
+    private final int[] histogram = new int[ICardCounter.HISTOGRAM_SIZE];
+    private long version = 0;
+
+    /**
+     * Constructs a new empty SaladHand.
+     */
+    public SaladHand() {
+    }
+
+    /**
+     * Gets the card at the specified position.
+     *
+     * @param index Position of the card
+     * @return The card at that position
+     */
+    @Override
+    public ICard get(int index) {
+        return cards.get(index);
+    }
+
+    /**
+     * Gets the number of cards in the hand.
+     *
+     * @return The hand size
+     */
+    @Override
+    public int size() {
+        return cards.size();
+    }
+
+    /**
+     * Inserts a card and adds it to the live counts.
+     *
+     * @param index Position to insert at
+     * @param card The card to insert
+     */
+    @Override
+    public void add(int index, ICard card) {
+        cards.add(index, card);
+        track(card);
+        modCount++;
+        version++;
+    }
+
+    /**
+     * Removes a card and subtracts it from the live counts.
+     *
+     * @param index Position of the card to remove
+     * @return The removed card
+     */
+    @Override
+    public ICard remove(int index) {
+        ICard card = cards.remove(index);
+        untrack(card);
+        modCount++;
+        version++;
+        return card;
+    }
+
+    /**
+     * Replaces a card and updates the live counts.
+     *
+     * @param index Position of the card to replace
+     * @param card The new card
+     * @return The replaced card
+     */
+    @Override
+    public ICard set(int index, ICard card) {
+        ICard old = cards.set(index, card);
+        untrack(old);
+        track(card);
+        version++;
+        return old;
+    }
+
+    /**
+     * Updates the counts when one of the cards in the hand is flipped.
+     *
+     * @param card The card that was flipped
+     */
+    public void sideChanged(ICard card) {
+        if (card.getCriteriaSideUp()) {
+            uncount(card);
+            addCriteria(card);
+        } else {
+            criteriaCards.remove(card);
+            count(card);
+        }
+        version++;
+    }
+
+    /**
+     * Gets the live count of a specific vegetable.
+     *
+     * @param vegetable The vegetable type to count
+     * @return Number of matching vegetable cards
+     */
+    public int countVegetables(Vegetable vegetable) {
+        return histogram[vegetable.ordinal()];
+    }
+
+    /**
+     * Gets the live count of all vegetable cards.
+     *
+     * @return Total number of vegetable cards
+     */
+    public int countTotalVegetables() {
+        return histogram[ICardCounter.TOTAL];
+    }
+
+    /**
+     * Copies the live vegetable counts into a histogram.
+     *
+     * @param into Array of ICardCounter.HISTOGRAM_SIZE entries to fill
+     * @return The filled histogram
+     */
+    public int[] copyHistogram(int[] into) {
+        System.arraycopy(histogram, 0, into, 0, ICardCounter.HISTOGRAM_SIZE);
+        return into;
+    }
+
+    /**
+     * Gets the face-up criteria cards in hand order.
+     *
+     * @return Read-only list of criteria cards
+     */
+    public List<ICard> getCriteriaCards() {
+        return criteriaView;
+    }
+
+    /**
+     * Gets the version of the hand.
+     *
+     * @return The current version number
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private void track(ICard card) {
+        card.setSideListener(this);
+        if (card.getCriteriaSideUp()) {
+            addCriteria(card);
+        } else {
+            count(card);
+        }
+    }
+
+    private void untrack(ICard card) {
+        card.setSideListener(null);
+        if (card.getCriteriaSideUp()) {
+            criteriaCards.remove(card);
+        } else {
+            uncount(card);
+        }
+    }
+
+    /**
+     * Inserts a criteria card so the criteria list keeps hand order.
+     *
+     * @param card The criteria card, already placed in the hand
+     */
+    private void addCriteria(ICard card) {
+        int position = 0;
+        for (int i = 0; i < cards.size() && position < criteriaCards.size(); i++) {
+            if (cards.get(i) == card) {
+                break;
+            }
+            if (cards.get(i) == criteriaCards.get(position)) {
+                position++;
+            }
+        }
+        criteriaCards.add(position, card);
+    }
+
+    private void count(ICard card) {
+        if (card.getVegetable() != null) {
+            histogram[card.getVegetable().ordinal()]++;
+        }
+        histogram[ICardCounter.TOTAL]++;
+    }
+
+    private void uncount(ICard card) {
+        if (card.getVegetable() != null) {
+            histogram[card.getVegetable().ordinal()]--;
+        }
+        histogram[ICardCounter.TOTAL]--;
+    }
+}
@@ -0,0 +1,115 @@
+package engine;
+
+import game.IBotStrategy;
+import game.SaladBotStrategy;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Measures the strength of every criteria card with seeded bot self-play at each
+ * player count from 2 to 6. For every criteria text held at the end of a game it reports
+ * how often its holder won, how much that differs from the base win rate, and the points
+ * the card scored by itself in the final score calculation.
+ * Each player count is written to the output as soon as its games are done, so a long
+ * run can be inspected while the larger tables are still playing.
+ * Usage: java engine.CriteriaAnalyzer &lt;games per player count&gt; &lt;output.csv&gt; [seed] [parallelism]
+ */
+public class CriteriaAnalyzer {
+    /**
+     * The smallest number of players in a game.
+     */
+    public static final int MIN_PLAYERS = 2;
+
+    /**
+     * The largest number of players in a game.
+     */
+    public static final int MAX_PLAYERS = 6;
+
+    private final SelfPlayRunner runner;
+    private final IBotStrategy strategy;
+
+    /**
+     * Constructs a new CriteriaAnalyzer.
+     *
+     * @param runner The runner playing the games
+     * @param strategy The strategy played at every seat
+     */
+    public CriteriaAnalyzer(SelfPlayRunner runner, IBotStrategy strategy) {
+        this.runner = runner;
+        this.strategy = strategy;
+    }
+
+    /**
+     * Plays the games of one player count.
+     *
+     * @param players The number of players
+     * @param games The number of games to play
+     * @param seed The seed of the run; every player count derives its own games from it
+     * @return The statistics of those games
+     * @throws IOException if the card manifest can't be loaded
+     */
+    public SelfPlayStats analyze(int players, long games, long seed) throws IOException {
+        IBotStrategy[] strategies = new IBotStrategy[players];
+        for (int seat = 0; seat < players; seat++) {
+            strategies[seat] = strategy;
+        }
+        long playerSeed = SimulationDriver.gameSeed(seed, -players);
+        return runner.run(new GameConfig(playerSeed, strategies), games, false);
+    }
+
+    /**
+     * Writes the header row of the criteria CSV.
+     *
+     * @param out The CSV output
+     * @throws IOException if the output fails
+     */
+    public static void writeHeader(Writer out) throws IOException {
+        out.write("players,criteria,held,wins,win_rate,win_rate_lift,avg_points,avg_score\n");
+    }
+
+    /**
+     * Plays every player count in turn and writes the criteria rows of each to the output.
+     *
+     * @param games The number of games per player count
+     * @param seed The seed of the run
+     * @param out The CSV output
+     * @throws IOException if the games or the output fail
+     */
+    public void analyzeAll(long games, long seed, Writer out) throws IOException {
+        writeHeader(out);
+        for (int players = MIN_PLAYERS; players <= MAX_PLAYERS; players++) {
+            analyze(players, games, seed).writeCriteriaRows(out);
+        }
+    }
+
+    /**
+     * Runs the analysis between original bots, writes the per-card results and prints
+     * the progress of every player count.
+     *
+     * @param args Number of games per player count, CSV path, optional seed and parallelism
+     * @throws IOException if the simulation or the CSV file fails
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: java engine.CriteriaAnalyzer <games per player count> <output.csv> [seed] [parallelism]");
+            System.exit(1);
+        }
+        long games = Long.parseLong(args[0]);
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        SelfPlayRunner runner = args.length > 3 ? new SelfPlayRunner(Integer.parseInt(args[3])) : new SelfPlayRunner();
+
+        CriteriaAnalyzer analyzer = new CriteriaAnalyzer(runner, new SaladBotStrategy());
+        try (Writer out = new BufferedWriter(new FileWriter(args[1]))) {
+            writeHeader(out);
+            for (int players = MIN_PLAYERS; players <= MAX_PLAYERS; players++) {
+                SelfPlayStats stats = analyzer.analyze(players, games, seed);
+                stats.writeCriteriaRows(out);
+                System.out.printf("%d players: %d games, %.0f games/s%n", players, stats.getGames(),
+                        stats.getGamesPerSecond());
+            }
+        }
+    }
+}
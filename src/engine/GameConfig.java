@@ -0,0 +1,180 @@
+package engine;
+
+import game.IBotStrategy;
+import game.SaladBotStrategy;
+import game.SaladGreedyBotStrategy;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Configuration of one headless game: the strategy of every seat and the seed
+ * of the game's random number stream. Configurations are immutable.
+ */
+public class GameConfig {
+    private final long seed;
+    private final IBotStrategy[] strategies;
+    private final String[] names;
+
+    /**
+     * Constructs a new GameConfig whose seats are named after their strategy classes.
+     *
+     * @param seed The seed of the game's random number stream
+     * @param strategies The strategy of each seat, one per player (2-6 players)
+     * @throws IllegalArgumentException if the number of players is invalid
+     */
+    public GameConfig(long seed, IBotStrategy... strategies) {
+        this(seed, strategies, classNames(strategies));
+    }
+
+    private GameConfig(long seed, IBotStrategy[] strategies, String[] names) {
+        if (strategies.length < 2 || strategies.length > 6) {
+            throw new IllegalArgumentException("A game needs 2-6 players, got " + strategies.length);
+        }
+        this.seed = seed;
+        this.strategies = strategies.clone();
+        this.names = names;
+    }
+
+    /**
+     * Creates a configuration from a comma-separated list of bot names, repeated over the seats.
+     * Each seat keeps the name its strategy was parsed from.
+     *
+     * @param seed The seed of the game's random number stream
+     * @param names The bot names, as for parseStrategies
+     * @param players The number of players
+     * @return The new configuration
+     * @throws IllegalArgumentException if a name is unknown or an mcts budget isn't a positive number
+     */
+    public static GameConfig parse(long seed, String names, int players) {
+        String[] parts = names.split(",");
+        String[] seatNames = new String[players];
+        for (int seat = 0; seat < players; seat++) {
+            seatNames[seat] = parts[seat % parts.length].trim();
+        }
+        return new GameConfig(seed, parseStrategies(names, players), seatNames);
+    }
+
+    private static String[] classNames(IBotStrategy[] strategies) {
+        String[] names = new String[strategies.length];
+        for (int i = 0; i < strategies.length; i++) {
+            names[i] = strategies[i].getClass().getSimpleName();
+        }
+        return names;
+    }
+
+    /**
+     * Creates the seat strategies from a comma-separated list of bot names, repeated over the seats.
+     * Seats with the same name share one strategy instance.
+     * Names: "salad" (the original bot), "greedy" (best immediate score change, flips included)
+     * "greedy-noflip" (the same without flipping criteria cards), "mcts" (Monte Carlo Tree Search)
+     * "mcts:&lt;millis&gt;" (Monte Carlo Tree Search with a time budget per turn instead of a playout count)
+     * and "expectimax" (search over sampled orders of the hidden pile cards).
+     *
+     * @param names The bot names, e.g. "greedy,salad"
+     * @param players The number of players
+     * @return The strategy of each seat
+     * @throws IllegalArgumentException if a name is unknown or an mcts budget isn't a positive number
+     */
+    public static IBotStrategy[] parseStrategies(String names, int players) {
+        String[] parts = names.split(",");
+        IBotStrategy[] distinct = new IBotStrategy[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            for (int j = 0; j < i && distinct[i] == null; j++) {
+                if (parts[j].trim().equals(parts[i].trim())) {
+                    distinct[i] = distinct[j];
+                }
+            }
+            if (distinct[i] == null) {
+                distinct[i] = strategyNamed(parts[i].trim());
+            }
+        }
+        IBotStrategy[] strategies = new IBotStrategy[players];
+        for (int seat = 0; seat < players; seat++) {
+            strategies[seat] = distinct[seat % distinct.length];
+        }
+        return strategies;
+    }
+
+    private static IBotStrategy strategyNamed(String name) {
+        if (name.startsWith("mcts:")) {
+            long millis = Long.parseLong(name.substring(5));
+            if (millis <= 0) {
+                throw new IllegalArgumentException("The mcts budget must be positive: " + name);
+            }
+            return new SaladMctsBotStrategy(Integer.MAX_VALUE, millis, ForkJoinPool.commonPool());
+        }
+        switch (name) {
+            case "salad":
+                return new SaladBotStrategy();
+            case "greedy":
+                return new SaladGreedyBotStrategy();
+            case "greedy-noflip":
+                return new SaladGreedyBotStrategy(false);
+            case "mcts":
+                return new SaladMctsBotStrategy();
+            case "expectimax":
+                return new SaladExpectimaxBotStrategy();
+            default:
+                throw new IllegalArgumentException("Unknown bot: " + name);
+        }
+    }
+
+    /**
+     * Creates the same configuration with another seed.
+     *
+     * @param seed The new seed
+     * @return The new configuration
+     */
+    public GameConfig withSeed(long seed) {
+        return new GameConfig(seed, strategies, names);
+    }
+
+    /**
+     * Gets the seed of the game's random number stream.
+     *
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of players.
+     *
+     * @return The player count
+     */
+    public int getPlayerCount() {
+        return strategies.length;
+    }
+
+    /**
+     * Gets the strategy of one seat.
+     *
+     * @param seat The seat index, which is also the player ID
+     * @return The seat's strategy
+     */
+    public IBotStrategy getStrategy(int seat) {
+        return strategies[seat];
+    }
+
+    /**
+     * Gets the name of one seat's strategy.
+     *
+     * @param seat The seat index, which is also the player ID
+     * @return The bot name the strategy was parsed from, or its class name
+     */
+    public String getStrategyName(int seat) {
+        return names[seat];
+    }
+
+    /**
+     * Describes the configuration.
+     *
+     * @return The seed and the strategy name of every seat
+     */
+    @Override
+    public String toString() {
+        return "GameConfig(seed=" + seed + ", seats=" + Arrays.toString(names) + ")";
+    }
+}
@@ -0,0 +1,161 @@
+package engine;
+
+import card.IHand;
+import game.GameMove;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Outcome of one headless game: final scores and hands, the winner and the move log.
+ */
+public class GameResult {
+    private final long seed;
+    private final int[] scores;
+    private final int[][] criteriaPoints;
+    private final IHand[] hands;
+    private final int winner;
+    private final ArrayList<GameMove> moves;
+    private final int[] moveSeats;
+    private final boolean stalled;
+
+    /**
+     * Constructs a new GameResult.
+     *
+     * @param seed The seed the game was played with
+     * @param scores The final score per seat
+     * @param criteriaPoints The points of each criteria card per seat, in hand order
+     * @param hands The final hand per seat
+     * @param moves The moves in the order they were played
+     * @param moveSeats The seat that played each move
+     * @param stalled true if the game ended because no player could take a card
+     */
+    public GameResult(long seed, int[] scores, int[][] criteriaPoints, IHand[] hands, ArrayList<GameMove> moves,
+                      int[] moveSeats, boolean stalled) {
+        this.seed = seed;
+        this.scores = scores;
+        this.criteriaPoints = criteriaPoints;
+        this.hands = hands;
+        this.moves = moves;
+        this.moveSeats = moveSeats;
+        this.stalled = stalled;
+
+        // Same rule as SaladResultHandler: the first seat with the highest positive score wins
+        int maxScore = 0;
+        int winningSeat = 0;
+        for (int seat = 0; seat < scores.length; seat++) {
+            if (scores[seat] > maxScore) {
+                maxScore = scores[seat];
+                winningSeat = seat;
+            }
+        }
+        this.winner = winningSeat;
+    }
+
+    /**
+     * Gets the seed the game was played with.
+     *
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of players.
+     *
+     * @return The player count
+     */
+    public int getPlayerCount() {
+        return scores.length;
+    }
+
+    /**
+     * Gets the final score of a seat.
+     *
+     * @param seat The seat index
+     * @return The score
+     */
+    public int getScore(int seat) {
+        return scores[seat];
+    }
+
+    /**
+     * Gets the points scored by one criteria card of a seat.
+     *
+     * @param seat The seat index
+     * @param index The index of the card in the hand's criteria cards
+     * @return The points of that card
+     */
+    public int getCriteriaPoints(int seat, int index) {
+        return criteriaPoints[seat][index];
+    }
+
+    /**
+     * Gets the final hand of a seat.
+     *
+     * @param seat The seat index
+     * @return The hand
+     */
+    public IHand getHand(int seat) {
+        return hands[seat];
+    }
+
+    /**
+     * Gets the winning seat.
+     *
+     * @return The seat index of the winner
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * Gets the number of moves played.
+     *
+     * @return The move count
+     */
+    public int getMoveCount() {
+        return moves.size();
+    }
+
+    /**
+     * Gets one move of the log.
+     *
+     * @param index The move number, from 0
+     * @return The move
+     */
+    public GameMove getMove(int index) {
+        return moves.get(index);
+    }
+
+    /**
+     * Gets the seat that played one move of the log.
+     *
+     * @param index The move number, from 0
+     * @return The seat index
+     */
+    public int getMoveSeat(int index) {
+        return moveSeats[index];
+    }
+
+    /**
+     * Checks if the game ended early because no player could take a card.
+     *
+     * @return true if the game stalled
+     */
+    public boolean isStalled() {
+        return stalled;
+    }
+
+    /**
+     * Describes the result.
+     *
+     * @return The seed, scores and winner
+     */
+    @Override
+    public String toString() {
+        return "GameResult(seed=" + seed + ", scores=" + Arrays.toString(scores) + ", winner=" + winner
+                + ", moves=" + moves.size() + (stalled ? ", stalled" : "") + ")";
+    }
+}
@@ -0,0 +1,67 @@
+package engine;
+
+import card.IHand;
+import game.GameMove;
+import player.IPlayer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Plays complete bot-only games without console or network I/O.
+ * Turn order follows SaladGameLoop: a random starting seat, then seats in order until
+ * every pile is empty. A game also ends when a full round passes without anyone taking
+ * a card, which SaladGameLoop can't detect (bots may refuse worthless point cards).
+ * An engine has no state, so one instance can play games on many threads at once.
+ */
+public class HeadlessEngine {
+    /**
+     * Constructs a new HeadlessEngine.
+     */
+    public HeadlessEngine() {
+    }
+
+    /**
+     * Plays one game to completion.
+     *
+     * @param config The game configuration
+     * @return The scores, hands and move log of the game
+     * @throws IOException if the card manifest can't be loaded
+     */
+    public GameResult play(GameConfig config) throws IOException {
+        HeadlessGame game = new HeadlessGame(config);
+        ArrayList<IPlayer> players = game.getPlayers();
+        int playerCount = players.size();
+
+        ArrayList<GameMove> moves = new ArrayList<>();
+        int[] moveSeats = new int[64];
+        int currentSeat = game.getRandom().nextInt(playerCount);
+        int passes = 0;
+
+        while (game.hasCardsLeft() && passes < playerCount) {
+            IPlayer player = players.get(currentSeat);
+            GameMove move = config.getStrategy(currentSeat).chooseMove(game, player);
+            int taken = move.applyTo(game, player);
+
+            if (moves.size() == moveSeats.length) {
+                moveSeats = Arrays.copyOf(moveSeats, moveSeats.length * 2);
+            }
+            moveSeats[moves.size()] = currentSeat;
+            moves.add(taken == 0 ? GameMove.PASS : move);
+            passes = taken == 0 ? passes + 1 : 0;
+
+            currentSeat = currentSeat == playerCount - 1 ? 0 : currentSeat + 1;
+        }
+
+        int[][] criteriaPoints = new int[playerCount][];
+        int[] scores = game.getScoreCalculator().scoreAll(players, criteriaPoints);
+        IHand[] hands = new IHand[playerCount];
+        for (int seat = 0; seat < playerCount; seat++) {
+            players.get(seat).setScore(scores[seat]);
+            hands[seat] = players.get(seat).getHand();
+        }
+        return new GameResult(config.getSeed(), scores, criteriaPoints, hands, moves,
+                Arrays.copyOf(moveSeats, moves.size()), passes >= playerCount);
+    }
+}
@@ -0,0 +1,127 @@
+package engine;
+
+import card.CardCatalog;
+import card.ICardCounter;
+import card.SaladCardCounter;
+import game.IGame;
+import market.IMarketView;
+import market.SaladMarket;
+import market.SaladMarketView;
+import piles.IPile;
+import piles.SaladPileInitializer;
+import player.BotPlayer;
+import player.IPlayer;
+import scoring.IScoreCalculator;
+import scoring.SaladScoreCalc;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+/**
+ * Game state for a game between bots only, without console or network I/O.
+ * Player IDs are the seat indices. Messages to players are dropped.
+ * Implements the IGame interface, so bot strategies see the same game as in SaladGame.
+ */
+public class HeadlessGame implements IGame {
+    private final ArrayList<IPlayer> players = new ArrayList<>();
+    private final ArrayList<IPile> piles;
+    private final SplittableRandom random;
+    private final ICardCounter cardCounter = new SaladCardCounter();
+    private final IScoreCalculator scoreCalculator = new SaladScoreCalc(cardCounter);
+    private IMarketView marketView;
+
+    /**
+     * Deals a new game for the given configuration.
+     *
+     * @param config The game configuration
+     * @throws IOException if the card manifest can't be loaded
+     */
+    public HeadlessGame(GameConfig config) throws IOException {
+        this.random = new SplittableRandom(config.getSeed());
+        for (int seat = 0; seat < config.getPlayerCount(); seat++) {
+            players.add(new BotPlayer(seat, false, true, null, null, null));
+        }
+        this.piles = new SaladPileInitializer(players.size(), CardCatalog.getDefault(),
+                SaladPileInitializer.DEFAULT_PILES, random.split()).getPiles();
+    }
+
+    /**
+     * Gets the list of players in the game.
+     *
+     * @return ArrayList of IPlayer objects, indexed by seat
+     */
+    public ArrayList<IPlayer> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Gets the game piles (card stacks).
+     *
+     * @return ArrayList of IPile objects
+     */
+    public ArrayList<IPile> getGamePiles() {
+        return piles;
+    }
+
+    /**
+     * Gets the market view, created on first use.
+     *
+     * @return IMarketView instance
+     */
+    public IMarketView getMarketView() {
+        if (marketView == null) {
+            marketView = new SaladMarketView(new SaladMarket(piles));
+        }
+        return marketView;
+    }
+
+    /**
+     * Drops the message, a headless game has no human players.
+     *
+     * @param message The message to send
+     */
+    public void sendToAllPlayers(String message) {
+    }
+
+    /**
+     * Gets the card counter utility.
+     *
+     * @return ICardCounter instance
+     */
+    public ICardCounter getCardCounter() {
+        return cardCounter;
+    }
+
+    /**
+     * Gets the score calculator.
+     *
+     * @return IScoreCalculator instance
+     */
+    public IScoreCalculator getScoreCalculator() {
+        return scoreCalculator;
+    }
+
+    /**
+     * Gets the random number stream of this game.
+     *
+     * @return The game's random number generator
+     */
+    public SplittableRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Checks if any pile still has cards.
+     *
+     * @return true if cards are left to take
+     */
+    public boolean hasCardsLeft() {
+        for (IPile pile : piles) {
+            if (!pile.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,406 @@
+package engine;
+
+import card.CriteriaCatalog;
+import card.ICard;
+import card.ICardCounter;
+import card.PackedCard;
+import game.GameMove;
+import game.IGame;
+import piles.IPile;
+import player.IPlayer;
+import scoring.PlayerAggregates;
+import scoring.ScoringContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Lightweight copy of a game's state for bot searches, holding every card as a PackedCard.
+ * Piles, market and hands are primitive arrays, so a state can be copied into another
+ * one without allocating and moves can be played and scored millions of times.
+ * Moves follow the rules of SaladPile and GameMove, including refills from the largest
+ * other pile. They are encoded as ints: -1 - pile for a point card, and
+ * first * slots + second for vegetable cards (first == second for a single card).
+ * A state is not thread-safe; searches give every thread its own copy.
+ */
+public class PackedGameState {
+    private final int playerCount;
+    private final int pileCount;
+    private final int slots;
+    private final short[][] piles;
+    private final int[] pileStart;
+    private final int[] pileEnd;
+    private final short[] market;
+    private final short[][] hands;
+    private final int[] handSizes;
+    private final int[][] histograms;
+    private int currentSeat;
+    private int passes;
+
+    /**
+     * Copies the state of a game, with the given seat to move.
+     *
+     * @param game The game to copy
+     * @param currentSeat The index in the player list of the player to move
+     */
+    public PackedGameState(IGame game, int currentSeat) {
+        ArrayList<IPile> gamePiles = game.getGamePiles();
+        ArrayList<IPlayer> players = game.getPlayers();
+        this.playerCount = players.size();
+        this.pileCount = gamePiles.size();
+        this.slots = 2 * pileCount;
+        this.currentSeat = currentSeat;
+
+        int capacity = 0;
+        for (IPile pile : gamePiles) {
+            capacity += pile.getCards().size() + 2;
+        }
+        for (IPlayer player : players) {
+            capacity += player.getHand().size();
+        }
+
+        this.piles = new short[pileCount][capacity];
+        this.pileStart = new int[pileCount];
+        this.pileEnd = new int[pileCount];
+        this.market = new short[slots];
+        for (int p = 0; p < pileCount; p++) {
+            List<ICard> cards = gamePiles.get(p).getCards();
+            for (int i = 0; i < cards.size(); i++) {
+                piles[p][i] = PackedCard.pack(cards.get(i));
+            }
+            pileEnd[p] = cards.size();
+            for (int row = 0; row < 2; row++) {
+                ICard card = gamePiles.get(p).getVeggieCard(row);
+                market[row * pileCount + p] = card == null ? PackedCard.NONE : PackedCard.pack(card);
+            }
+        }
+
+        this.hands = new short[playerCount][capacity];
+        this.handSizes = new int[playerCount];
+        this.histograms = new int[playerCount][ICardCounter.HISTOGRAM_SIZE];
+        for (int seat = 0; seat < playerCount; seat++) {
+            List<ICard> hand = players.get(seat).getHand();
+            for (int i = 0; i < hand.size(); i++) {
+                addToHand(seat, PackedCard.pack(hand.get(i)));
+            }
+        }
+    }
+
+    /**
+     * Constructs a copy of another state.
+     *
+     * @param other The state to copy
+     */
+    public PackedGameState(PackedGameState other) {
+        this.playerCount = other.playerCount;
+        this.pileCount = other.pileCount;
+        this.slots = other.slots;
+        this.piles = new short[pileCount][other.piles[0].length];
+        this.pileStart = new int[pileCount];
+        this.pileEnd = new int[pileCount];
+        this.market = new short[slots];
+        this.hands = new short[playerCount][other.hands[0].length];
+        this.handSizes = new int[playerCount];
+        this.histograms = new int[playerCount][ICardCounter.HISTOGRAM_SIZE];
+        copyFrom(other);
+    }
+
+    /**
+     * Overwrites this state with another state of the same game, without allocating.
+     *
+     * @param other The state to copy
+     */
+    public void copyFrom(PackedGameState other) {
+        for (int p = 0; p < pileCount; p++) {
+            int size = other.pileEnd[p] - other.pileStart[p];
+            System.arraycopy(other.piles[p], other.pileStart[p], piles[p], 0, size);
+            pileStart[p] = 0;
+            pileEnd[p] = size;
+        }
+        System.arraycopy(other.market, 0, market, 0, slots);
+        for (int seat = 0; seat < playerCount; seat++) {
+            System.arraycopy(other.hands[seat], 0, hands[seat], 0, other.handSizes[seat]);
+            System.arraycopy(other.histograms[seat], 0, histograms[seat], 0, ICardCounter.HISTOGRAM_SIZE);
+        }
+        System.arraycopy(other.handSizes, 0, handSizes, 0, playerCount);
+        currentSeat = other.currentSeat;
+        passes = other.passes;
+    }
+
+    /**
+     * Gets the number of players.
+     *
+     * @return The player count
+     */
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Gets the number of piles.
+     *
+     * @return The pile count
+     */
+    public int getPileCount() {
+        return pileCount;
+    }
+
+    /**
+     * Gets the player to move.
+     *
+     * @return The seat index
+     */
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    /**
+     * Gets the largest number of legal moves in any state of this game.
+     *
+     * @return The size needed for the array given to legalMoves
+     */
+    public int getMaxMoves() {
+        return pileCount + slots + slots * (slots - 1) / 2;
+    }
+
+    /**
+     * Checks if the game is over: no card is left, or a full round passed without a card taken.
+     *
+     * @return true if the game is over
+     */
+    public boolean isOver() {
+        if (passes >= playerCount) {
+            return true;
+        }
+        for (int slot = 0; slot < slots; slot++) {
+            if (market[slot] != PackedCard.NONE) {
+                return false;
+            }
+        }
+        for (int p = 0; p < pileCount; p++) {
+            if (pileEnd[p] > pileStart[p]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lists the legal moves of the player to move: every point card on offer, then every
+     * single vegetable card and pair of vegetable cards in the market.
+     *
+     * @param moves Array receiving the moves, at least getMaxMoves() long
+     * @return The number of moves
+     */
+    public int legalMoves(int[] moves) {
+        int count = 0;
+        for (int p = 0; p < pileCount; p++) {
+            if (pileEnd[p] > pileStart[p] || largestOtherPile(p) >= 0) {
+                moves[count++] = -1 - p;
+            }
+        }
+        for (int a = 0; a < slots; a++) {
+            if (market[a] == PackedCard.NONE) {
+                continue;
+            }
+            moves[count++] = a * slots + a;
+            for (int b = a + 1; b < slots; b++) {
+                if (market[b] != PackedCard.NONE) {
+                    moves[count++] = a * slots + b;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Plays a move for the player to move and passes the turn to the next seat.
+     *
+     * @param move A move from legalMoves
+     */
+    public void play(int move) {
+        int taken = 0;
+        if (move < 0) {
+            short card = buyPointCard(-1 - move);
+            if (card != PackedCard.NONE) {
+                addToHand(currentSeat, card);
+                taken++;
+            }
+        } else {
+            int first = move / slots;
+            int second = move % slots;
+            taken += buyVeggieCard(first);
+            if (second != first) {
+                taken += buyVeggieCard(second);
+            }
+        }
+        passes = taken == 0 ? passes + 1 : 0;
+        currentSeat = currentSeat == playerCount - 1 ? 0 : currentSeat + 1;
+    }
+
+    /**
+     * Passes the turn without taking a card.
+     */
+    public void pass() {
+        passes++;
+        currentSeat = currentSeat == playerCount - 1 ? 0 : currentSeat + 1;
+    }
+
+    /**
+     * Reshuffles the hidden cards: every pile card below the pile's top card.
+     * The hidden cards of all piles are shuffled together and dealt back so every pile
+     * keeps its size and its visible point card, which gives one order of the piles
+     * consistent with everything a player can see.
+     *
+     * @param random The random number stream of the sample
+     */
+    public void determinize(SplittableRandom random) {
+        int hidden = 0;
+        for (int p = 0; p < pileCount; p++) {
+            hidden += Math.max(0, pileEnd[p] - pileStart[p] - 1);
+        }
+        // Fisher-Yates over the hidden cards as one sequence spanning the piles
+        for (int i = hidden - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int a = hiddenIndex(i);
+            int b = hiddenIndex(j);
+            short card = piles[a >> 16][a & 0xFFFF];
+            piles[a >> 16][a & 0xFFFF] = piles[b >> 16][b & 0xFFFF];
+            piles[b >> 16][b & 0xFFFF] = card;
+        }
+    }
+
+    /**
+     * Finds the position of the n-th hidden card.
+     *
+     * @param n The index of the hidden card, counting pile by pile
+     * @return The pile in the upper 16 bits and the array index in the lower 16 bits
+     */
+    private int hiddenIndex(int n) {
+        for (int p = 0; p < pileCount; p++) {
+            int hidden = Math.max(0, pileEnd[p] - pileStart[p] - 1);
+            if (n < hidden) {
+                return (p << 16) | (pileStart[p] + 1 + n);
+            }
+            n -= hidden;
+        }
+        throw new IndexOutOfBoundsException();
+    }
+
+    /**
+     * Scores every hand like SaladScoreCalc.scoreAll.
+     *
+     * @param context A scoring context to reuse
+     * @param aggregates Player aggregates to reuse
+     * @param scores Array receiving one score per seat
+     * @return The scores array
+     */
+    public int[] score(ScoringContext context, PlayerAggregates aggregates, int[] scores) {
+        CriteriaCatalog catalog = CriteriaCatalog.getShared();
+        aggregates.update(histograms, playerCount);
+        for (int seat = 0; seat < playerCount; seat++) {
+            context.reset(aggregates, seat);
+            int score = 0;
+            short[] hand = hands[seat];
+            for (int i = 0; i < handSizes[seat]; i++) {
+                if (PackedCard.isCriteriaSideUp(hand[i])) {
+                    score += catalog.getScoringRule(PackedCard.criteriaId(hand[i])).evaluate(context);
+                }
+            }
+            scores[seat] = score;
+        }
+        return scores;
+    }
+
+    /**
+     * Converts an encoded move to a GameMove.
+     *
+     * @param move The encoded move
+     * @param pileCount The number of piles
+     * @return The move
+     */
+    public static GameMove toGameMove(int move, int pileCount) {
+        if (move < 0) {
+            return GameMove.pointCard(-1 - move);
+        }
+        int slots = 2 * pileCount;
+        int first = move / slots;
+        int second = move % slots;
+        return first == second ? GameMove.veggieCards(first) : GameMove.veggieCards(first, second);
+    }
+
+    private void addToHand(int seat, short card) {
+        hands[seat][handSizes[seat]++] = card;
+        if (!PackedCard.isCriteriaSideUp(card)) {
+            histograms[seat][PackedCard.vegetableOrdinal(card)]++;
+            histograms[seat][ICardCounter.TOTAL]++;
+        }
+    }
+
+    private short buyPointCard(int pile) {
+        if (pileEnd[pile] == pileStart[pile] && !refill(pile)) {
+            return PackedCard.NONE;
+        }
+        return piles[pile][pileStart[pile]++];
+    }
+
+    private int buyVeggieCard(int slot) {
+        short card = market[slot];
+        if (card == PackedCard.NONE) {
+            return 0;
+        }
+        int pile = slot % pileCount;
+        if (pileEnd[pile] - pileStart[pile] <= 1 && !refill(pile)) {
+            market[slot] = PackedCard.NONE;
+        } else {
+            market[slot] = PackedCard.withCriteriaSideUp(piles[pile][pileStart[pile]++], false);
+        }
+        addToHand(currentSeat, card);
+        return 1;
+    }
+
+    private boolean refill(int pile) {
+        int source = largestOtherPile(pile);
+        if (source < 0) {
+            return false;
+        }
+        if (pileEnd[pile] == piles[pile].length) {
+            int size = pileEnd[pile] - pileStart[pile];
+            System.arraycopy(piles[pile], pileStart[pile], piles[pile], 0, size);
+            pileStart[pile] = 0;
+            pileEnd[pile] = size;
+        }
+        piles[pile][pileEnd[pile]++] = piles[source][--pileEnd[source]];
+        return true;
+    }
+
+    private int largestOtherPile(int pile) {
+        int biggest = -1;
+        int biggestSize = 0;
+        for (int p = 0; p < pileCount; p++) {
+            int size = pileEnd[p] - pileStart[p];
+            if (p != pile && size > biggestSize) {
+                biggestSize = size;
+                biggest = p;
+            }
+        }
+        return biggestSize > 1 ? biggest : -1;
+    }
+
+    /**
+     * Describes the state.
+     *
+     * @return The pile sizes, hand sizes and seat to move
+     */
+    @Override
+    public String toString() {
+        int[] sizes = new int[pileCount];
+        for (int p = 0; p < pileCount; p++) {
+            sizes[p] = pileEnd[p] - pileStart[p];
+        }
+        return "PackedGameState(piles=" + Arrays.toString(sizes) + ", hands=" + Arrays.toString(handSizes)
+                + ", seat=" + currentSeat + ")";
+    }
+}
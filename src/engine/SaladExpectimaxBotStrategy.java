@@ -0,0 +1,254 @@
+package engine;
+
+import card.SaladCardCounter;
+import game.GameMove;
+import game.IBotStrategy;
+import game.IGame;
+import game.SaladGreedyBotStrategy;
+import player.IPlayer;
+import scoring.PlayerAggregates;
+import scoring.ScoringContext;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Bot that doesn't assume it knows the order of the piles. It samples orders of the
+ * hidden pile cards consistent with what it can see (PackedGameState.determinize),
+ * searches every sample a few plies deep and plays the move with the best total value
+ * over all samples, followed by the best flip for it.
+ * In each sample the bot takes the move with the best outcome, the opponents answer with
+ * their greedy move, and after the bot's last searched move the state is valued as the
+ * bot's score minus the best opponent score.
+ * Samples are searched in parallel on a ForkJoinPool. Each sample draws from its own
+ * random number stream, split off the game's stream before the search starts, and the
+ * values are added up in sample order, so the move is the same for a given seed however
+ * the samples are scheduled.
+ */
+public class SaladExpectimaxBotStrategy implements IBotStrategy {
+    /**
+     * Number of sampled pile orders per turn used by default.
+     */
+    public static final int DEFAULT_SAMPLES = 8;
+
+    /**
+     * Number of the bot's own moves searched in every sample by default.
+     */
+    public static final int DEFAULT_DEPTH = 2;
+
+    private final int samples;
+    private final int depth;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a new SaladExpectimaxBotStrategy with the default samples and depth on the common pool.
+     */
+    public SaladExpectimaxBotStrategy() {
+        this(DEFAULT_SAMPLES, DEFAULT_DEPTH, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new SaladExpectimaxBotStrategy.
+     *
+     * @param samples The number of sampled pile orders per turn
+     * @param depth The number of the bot's own moves searched, each followed by the opponents' replies
+     * @param pool The pool searching the samples
+     */
+    public SaladExpectimaxBotStrategy(int samples, int depth, ForkJoinPool pool) {
+        this.samples = Math.max(1, samples);
+        this.depth = Math.max(1, depth);
+        this.pool = pool;
+    }
+
+    /**
+     * Searches sampled pile orders and chooses the move with the best total value.
+     *
+     * @param game The game being played
+     * @param player The bot whose turn it is
+     * @return The chosen move, or GameMove.PASS if no card can be taken
+     */
+    public GameMove chooseMove(IGame game, IPlayer player) {
+        PackedGameState root = new PackedGameState(game, game.getPlayers().indexOf(player));
+        int[] moves = new int[root.getMaxMoves()];
+        int count = root.isOver() ? 0 : root.legalMoves(moves);
+        if (count == 0) {
+            return GameMove.PASS;
+        }
+
+        int best = 0;
+        if (count > 1) {
+            SplittableRandom random = game.getRandom().split();
+            Sample[] tasks = new Sample[samples];
+            for (int s = 0; s < samples; s++) {
+                tasks[s] = new Sample(root, random.split(), depth, count);
+            }
+            pool.invoke(new Samples(tasks, 0, samples));
+
+            long[] totals = new long[count];
+            for (Sample sample : tasks) {
+                for (int m = 0; m < count; m++) {
+                    totals[m] += sample.values[m];
+                }
+            }
+            for (int m = 1; m < count; m++) {
+                if (totals[m] > totals[best]) {
+                    best = m;
+                }
+            }
+        }
+
+        GameMove move = PackedGameState.toGameMove(moves[best], root.getPileCount());
+        return SaladGreedyBotStrategy.withBestFlip(game, player, move);
+    }
+
+    /**
+     * Search of one sampled pile order, with its own states and scratch arrays.
+     */
+    private static final class Sample {
+        private final PackedGameState root;
+        private final SplittableRandom random;
+        private final int depth;
+        private final int[] values;
+        private int seat;
+        private PackedGameState[] states;
+        private int[][] moves;
+        private int[] replyMoves;
+        private PackedGameState probe;
+        private int[] scores;
+        private ScoringContext context;
+        private PlayerAggregates aggregates;
+
+        Sample(PackedGameState root, SplittableRandom random, int depth, int moveCount) {
+            this.root = root;
+            this.random = random;
+            this.depth = depth;
+            this.values = new int[moveCount];
+        }
+
+        /**
+         * Values every root move in one sampled order of the piles.
+         */
+        void run() {
+            PackedGameState sample = new PackedGameState(root);
+            sample.determinize(random);
+            seat = sample.getCurrentSeat();
+            states = new PackedGameState[depth];
+            moves = new int[depth][sample.getMaxMoves()];
+            replyMoves = new int[sample.getMaxMoves()];
+            for (int d = 0; d < depth; d++) {
+                states[d] = new PackedGameState(sample);
+            }
+            probe = new PackedGameState(sample);
+            scores = new int[sample.getPlayerCount()];
+            context = new ScoringContext(new SaladCardCounter());
+            aggregates = new PlayerAggregates(new SaladCardCounter());
+
+            // The root moves are the same in every sample: only hidden cards were reshuffled
+            int count = sample.legalMoves(moves[0]);
+            PackedGameState child = states[0];
+            for (int m = 0; m < count; m++) {
+                child.copyFrom(sample);
+                child.play(moves[0][m]);
+                values[m] = afterMove(child, 1);
+            }
+        }
+
+        /**
+         * Lets the opponents reply and values the state, searching deeper while plies are left.
+         *
+         * @param state The state after one of the bot's moves, changed by the replies
+         * @param level The number of the bot's moves already played
+         * @return The value of the state for the bot
+         */
+        private int afterMove(PackedGameState state, int level) {
+            while (!state.isOver() && state.getCurrentSeat() != seat) {
+                playGreedy(state);
+            }
+            if (level == depth || state.isOver()) {
+                return evaluate(state);
+            }
+
+            int[] levelMoves = moves[level];
+            int count = state.legalMoves(levelMoves);
+            PackedGameState child = states[level];
+            int best = Integer.MIN_VALUE;
+            for (int m = 0; m < count; m++) {
+                child.copyFrom(state);
+                child.play(levelMoves[m]);
+                best = Math.max(best, afterMove(child, level + 1));
+            }
+            return best;
+        }
+
+        /**
+         * Plays the move that raises the score of the player to move the most.
+         *
+         * @param state The state to play in
+         */
+        private void playGreedy(PackedGameState state) {
+            int mover = state.getCurrentSeat();
+            int count = state.legalMoves(replyMoves);
+            if (count == 0) {
+                state.pass();
+                return;
+            }
+            int best = 0;
+            int bestScore = Integer.MIN_VALUE;
+            for (int m = 0; m < count; m++) {
+                probe.copyFrom(state);
+                probe.play(replyMoves[m]);
+                int score = probe.score(context, aggregates, scores)[mover];
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = m;
+                }
+            }
+            state.play(replyMoves[best]);
+        }
+
+        /**
+         * Values a state as the bot's score minus the best opponent score.
+         *
+         * @param state The state to value
+         * @return The score lead of the bot
+         */
+        private int evaluate(PackedGameState state) {
+            state.score(context, aggregates, scores);
+            int opponents = Integer.MIN_VALUE;
+            for (int s = 0; s < scores.length; s++) {
+                if (s != seat) {
+                    opponents = Math.max(opponents, scores[s]);
+                }
+            }
+            return scores[seat] - opponents;
+        }
+    }
+
+    /**
+     * Task searching a range of samples, split in halves down to one sample.
+     */
+    private static final class Samples extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Sample[] samples;
+        private final int from;
+        private final int to;
+
+        Samples(Sample[] samples, int from, int to) {
+            this.samples = samples;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new Samples(samples, from, middle), new Samples(samples, middle, to));
+            } else {
+                samples[from].run();
+            }
+        }
+    }
+}
@@ -0,0 +1,436 @@
+package engine;
+
+import card.SaladCardCounter;
+import game.BotDecision;
+import game.GameMove;
+import game.IAnytimeBotStrategy;
+import game.IGame;
+import game.SaladGreedyBotStrategy;
+import player.IPlayer;
+import scoring.PlayerAggregates;
+import scoring.ScoringContext;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bot choosing its move with Monte Carlo Tree Search over PackedGameState copies of the game.
+ * Every playout walks down a tree by UCB1, expands one node and finishes the game
+ * with uniformly random moves; the winners' share of the win is added to every move on
+ * the path, from the point of view of the player who made it.
+ * Playouts run in parallel on a ForkJoinPool with root parallelism: the playouts are split
+ * over a fixed number of trees, each searched by one task with its own random number
+ * stream, so the workers share nothing while they search. The root visit counts of the
+ * trees are then added up in tree order.
+ * The search stops after its playouts or at its deadline, whichever comes first. At the
+ * deadline trees that haven't started are cancelled, the others end their current playout,
+ * and the most visited move of the finished trees is played, followed by the best flip for
+ * it. If not a single playout finished in time, the greedy bot's move is played instead.
+ * The search doesn't peek at the piles: every playout samples an order of the hidden pile
+ * cards consistent with what the bot can see (PackedGameState.determinize), so the tree
+ * averages over the orders the bot can't tell apart. Without a deadline the move only
+ * depends on the game's random number stream, whatever the parallelism of the pool.
+ */
+public class SaladMctsBotStrategy implements IAnytimeBotStrategy {
+    /**
+     * Number of playouts per turn used by default.
+     */
+    public static final int DEFAULT_PLAYOUTS = 2000;
+
+    /**
+     * Number of trees the playouts are split over.
+     */
+    public static final int TREES = 4;
+
+    private static final double EXPLORATION = 0.7;
+    private static final long REWARD_SCALE = 1 << 20;
+    private static final int EXPAND_AFTER = 2;
+
+    private final int playouts;
+    private final long budgetNanos;
+    private final ForkJoinPool pool;
+    private final int trees;
+    private final SaladGreedyBotStrategy fallback = new SaladGreedyBotStrategy();
+
+    /**
+     * Constructs a new SaladMctsBotStrategy with the default playouts on the common pool.
+     */
+    public SaladMctsBotStrategy() {
+        this(DEFAULT_PLAYOUTS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new SaladMctsBotStrategy without a time budget.
+     *
+     * @param playouts The number of playouts per turn
+     * @param pool The pool searching the trees
+     */
+    public SaladMctsBotStrategy(int playouts, ForkJoinPool pool) {
+        this(playouts, 0, pool);
+    }
+
+    /**
+     * Constructs a new SaladMctsBotStrategy.
+     *
+     * @param playouts The largest number of playouts per turn
+     * @param budgetMillis The wall-clock budget per turn in milliseconds, or 0 for none
+     * @param pool The pool searching the trees
+     */
+    public SaladMctsBotStrategy(int playouts, long budgetMillis, ForkJoinPool pool) {
+        this.playouts = Math.max(1, playouts);
+        this.budgetNanos = budgetMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(budgetMillis) : Long.MAX_VALUE;
+        this.pool = pool;
+        this.trees = Math.min(TREES, this.playouts);
+    }
+
+    /**
+     * Searches the game tree within the strategy's budget and chooses the most visited move.
+     *
+     * @param game The game being played
+     * @param player The bot whose turn it is
+     * @return The chosen move, or GameMove.PASS if no card can be taken
+     */
+    public GameMove chooseMove(IGame game, IPlayer player) {
+        return decide(game, player, budgetNanos).getMove();
+    }
+
+    /**
+     * Gets the wall-clock budget per turn.
+     *
+     * @return The budget in nanoseconds, or Long.MAX_VALUE when only the playouts bound the search
+     */
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * Searches the game tree in the background until the playouts are done or the budget is spent.
+     * At the deadline the workers are told to stop and finish their current playout, and
+     * trees still waiting in the pool's queues are cancelled.
+     *
+     * @param game The game being played
+     * @param player The bot whose turn it is
+     * @param budgetNanos The longest time to search, in nanoseconds, or Long.MAX_VALUE for no limit
+     * @return The most visited move with the number of playouts and nodes of the search
+     */
+    public BotDecision decide(IGame game, IPlayer player, long budgetNanos) {
+        long start = System.nanoTime();
+        PackedGameState root = new PackedGameState(game, game.getPlayers().indexOf(player));
+        int[] scratch = new int[root.getMaxMoves()];
+        int moveCount = root.isOver() ? 0 : root.legalMoves(scratch);
+        if (moveCount == 0) {
+            return new BotDecision(GameMove.PASS, 0, 1, System.nanoTime() - start, false);
+        }
+
+        Search search = new Search(root, start, budgetNanos);
+        long playoutCount = 0;
+        long nodeCount = 0;
+        int best = 0;
+        if (moveCount > 1) {
+            SplittableRandom random = game.getRandom().split();
+            Worker[] tasks = new Worker[trees];
+            for (int w = 0; w < trees; w++) {
+                int share = playouts / trees + (w < playouts % trees ? 1 : 0);
+                tasks[w] = new Worker(search, random.split(), share);
+                pool.execute(tasks[w]);
+            }
+            if (!awaitAll(tasks, search)) {
+                search.stop();
+                for (Worker worker : tasks) {
+                    worker.abandon();
+                }
+            }
+
+            long[] visits = new long[moveCount];
+            for (Worker worker : tasks) {
+                if (worker.isFinished()) {
+                    playoutCount += worker.done;
+                    nodeCount += worker.nodes;
+                    for (int m = 0; m < moveCount; m++) {
+                        visits[m] += worker.rootNode.visits[m];
+                    }
+                }
+            }
+            for (int m = 1; m < moveCount; m++) {
+                if (visits[m] > visits[best]) {
+                    best = m;
+                }
+            }
+        }
+
+        GameMove move;
+        if (moveCount > 1 && playoutCount == 0) {
+            move = fallback.chooseMove(game, player);
+        } else {
+            move = PackedGameState.toGameMove(scratch[best], root.getPileCount());
+            move = SaladGreedyBotStrategy.withBestFlip(game, player, move);
+        }
+        return new BotDecision(move, playoutCount, Math.max(1, nodeCount), System.nanoTime() - start,
+                search.stopped);
+    }
+
+    /**
+     * Waits for every tree in order until the search's budget is spent.
+     *
+     * @param tasks The trees of the search, already submitted to the pool
+     * @param search The search with its budget
+     * @return true if every tree finished, false if the budget ran out or the wait was interrupted
+     */
+    private static boolean awaitAll(Worker[] tasks, Search search) {
+        try {
+            for (Worker worker : tasks) {
+                if (search.timed) {
+                    worker.get(Math.max(0, search.remainingNanos()), TimeUnit.NANOSECONDS);
+                } else {
+                    worker.get();
+                }
+            }
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Bot search failed", e.getCause());
+        }
+    }
+
+    /**
+     * State shared by the trees of one search: the root state and the time budget.
+     */
+    private static final class Search {
+        final PackedGameState root;
+        final long start;
+        final long budgetNanos;
+        final boolean timed;
+        volatile boolean stopped;
+
+        Search(PackedGameState root, long start, long budgetNanos) {
+            this.root = root;
+            this.start = start;
+            this.budgetNanos = budgetNanos;
+            this.timed = budgetNanos != Long.MAX_VALUE;
+        }
+
+        void stop() {
+            stopped = true;
+        }
+
+        /**
+         * Gets the time left of the budget, compared as elapsed time so nanoTime may wrap around.
+         *
+         * @return The nanoseconds left, negative once the budget is spent
+         */
+        long remainingNanos() {
+            return budgetNanos - (System.nanoTime() - start);
+        }
+
+        /**
+         * Checks if the workers should stop, stopping a timed search once its budget is spent.
+         *
+         * @return true if no further playout should start
+         */
+        boolean shouldStop() {
+            if (!stopped && timed && remainingNanos() <= 0) {
+                stopped = true;
+            }
+            return stopped;
+        }
+    }
+
+    /**
+     * Node of a search tree: the moves of one state and the statistics of each move.
+     */
+    private static final class Node {
+        final int seat;
+        final int[] moves;
+        final long[] visits;
+        final long[] rewards;
+        final Node[] children;
+        long totalVisits;
+
+        Node(PackedGameState state, int[] scratch) {
+            this.seat = state.getCurrentSeat();
+            int count = state.isOver() ? 0 : state.legalMoves(scratch);
+            this.moves = Arrays.copyOf(scratch, count);
+            this.visits = new long[count];
+            this.rewards = new long[count];
+            this.children = new Node[count];
+        }
+
+        /**
+         * Picks the move with the highest UCB1 value and counts the visit.
+         *
+         * @return The index of the move
+         */
+        int select() {
+            double logTotal = Math.log(totalVisits + 1);
+            int best = 0;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < moves.length; i++) {
+                long v = visits[i];
+                if (v == 0) {
+                    best = i;
+                    break;
+                }
+                double value = (double) rewards[i] / (v * REWARD_SCALE) + EXPLORATION * Math.sqrt(logTotal / v);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = i;
+                }
+            }
+            visits[best]++;
+            totalVisits++;
+            return best;
+        }
+    }
+
+    /**
+     * Playouts of one tree, with its own state copy, scratch arrays and random number stream.
+     * The worker publishes its tree and playout count by finishing; a worker that is abandoned
+     * before it starts never searches.
+     */
+    private static final class Worker extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private static final int WAITING = 0;
+        private static final int RUNNING = 1;
+        private static final int FINISHED = 2;
+        private static final int CANCELLED = 3;
+
+        private final AtomicInteger status = new AtomicInteger(WAITING);
+        private final CountDownLatch ended = new CountDownLatch(1);
+        private final Search search;
+        private final SplittableRandom random;
+        private final int playouts;
+        private final int[] scratch;
+        final Node rootNode;
+        long done;
+        long nodes = 1;
+
+        Worker(Search search, SplittableRandom random, int playouts) {
+            this.search = search;
+            this.random = random;
+            this.playouts = playouts;
+            this.scratch = new int[search.root.getMaxMoves()];
+            this.rootNode = new Node(search.root, scratch);
+        }
+
+        @Override
+        protected void compute() {
+            if (!status.compareAndSet(WAITING, RUNNING)) {
+                return;
+            }
+            try {
+                run();
+                status.set(FINISHED);
+            } finally {
+                ended.countDown();
+            }
+        }
+
+        /**
+         * Checks if the worker ran all of its playouts or stopped with the search.
+         *
+         * @return true if the tree and the playout count can be read
+         */
+        boolean isFinished() {
+            return status.get() == FINISHED;
+        }
+
+        /**
+         * Cancels the worker if it hasn't started, otherwise waits for its current playout to end.
+         * The search must be stopped first.
+         */
+        void abandon() {
+            if (status.compareAndSet(WAITING, CANCELLED)) {
+                cancel(false);
+                return;
+            }
+            try {
+                ended.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void run() {
+            PackedGameState root = search.root;
+            PackedGameState state = new PackedGameState(root);
+            int[] scores = new int[root.getPlayerCount()];
+            long[] reward = new long[root.getPlayerCount()];
+            Node[] pathNodes = new Node[128];
+            int[] pathMoves = new int[128];
+            ScoringContext context = new ScoringContext(new SaladCardCounter());
+            PlayerAggregates aggregates = new PlayerAggregates(new SaladCardCounter());
+
+            int n = 0;
+            for (; n < playouts && !search.shouldStop(); n++) {
+                // Every playout deals its own order of the hidden cards; the legal moves only
+                // depend on how many cards are left, so the tree fits every order
+                state.copyFrom(root);
+                state.determinize(random);
+                int depth = 0;
+                Node node = rootNode;
+                while (node.moves.length > 0 && depth < pathNodes.length) {
+                    int move = node.select();
+                    pathNodes[depth] = node;
+                    pathMoves[depth++] = move;
+                    state.play(node.moves[move]);
+
+                    Node child = node.children[move];
+                    if (child == null) {
+                        if (node.visits[move] >= EXPAND_AFTER) {
+                            node.children[move] = new Node(state, scratch);
+                            nodes++;
+                        }
+                        break;
+                    }
+                    node = child;
+                }
+
+                while (!state.isOver()) {
+                    int count = state.legalMoves(scratch);
+                    if (count == 0) {
+                        state.pass();
+                    } else {
+                        state.play(scratch[random.nextInt(count)]);
+                    }
+                }
+                shareWin(state.score(context, aggregates, scores), reward);
+
+                for (int d = 0; d < depth; d++) {
+                    pathNodes[d].rewards[pathMoves[d]] += reward[pathNodes[d].seat];
+                }
+            }
+            done = n;
+        }
+
+        /**
+         * Splits one win between the seats with the highest score.
+         */
+        private static void shareWin(int[] scores, long[] reward) {
+            int best = Integer.MIN_VALUE;
+            int winners = 0;
+            for (int score : scores) {
+                if (score > best) {
+                    best = score;
+                    winners = 1;
+                } else if (score == best) {
+                    winners++;
+                }
+            }
+            for (int seat = 0; seat < scores.length; seat++) {
+                reward[seat] = scores[seat] == best ? REWARD_SCALE / winners : 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package engine;
+
+import game.IBotStrategy;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs seeded self-play games on a ForkJoinPool to answer balance questions at volume.
+ * The range of games is split recursively into batches; every worker thread accumulates
+ * the outcomes in its own SelfPlayStats, and the per-thread counters are merged once
+ * all games are done, so the workers never contend on shared counters.
+ * Game i uses the seed SimulationDriver.gameSeed(base, i) and, if seats are rotated,
+ * seat s plays the strategy of seat (s + i) mod players, so seat and strategy effects
+ * can be told apart. Results are the same for any parallelism, unless a bot searches
+ * on a time budget (mcts:&lt;millis&gt;): how far it gets depends on the machine's load.
+ * Usage: java engine.SelfPlayRunner &lt;games&gt; &lt;players&gt; &lt;summary.csv&gt; [seed] [parallelism] [bots]
+ */
+public class SelfPlayRunner {
+    private static final int BATCH = 64;
+
+    private final HeadlessEngine engine = new HeadlessEngine();
+    private final int parallelism;
+
+    /**
+     * Constructs a new SelfPlayRunner using every available core.
+     */
+    public SelfPlayRunner() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new SelfPlayRunner.
+     *
+     * @param parallelism The number of ForkJoinPool workers
+     */
+    public SelfPlayRunner(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Plays the given number of games.
+     *
+     * @param template The seat strategies; its seed is the base seed of the run
+     * @param games The number of games to play
+     * @param rotateSeats true to rotate the strategies over the seats from game to game
+     * @return The merged statistics
+     * @throws IOException if the card manifest can't be loaded
+     */
+    public SelfPlayStats run(GameConfig template, long games, boolean rotateSeats) throws IOException {
+        int playerCount = template.getPlayerCount();
+        ArrayList<IBotStrategy> strategies = new ArrayList<>();
+        ArrayList<String> labels = new ArrayList<>();
+        int[] strategyOfSeat = new int[playerCount];
+        for (int seat = 0; seat < playerCount; seat++) {
+            int index = indexOfSame(strategies, template.getStrategy(seat));
+            if (index < 0) {
+                index = strategies.size();
+                strategies.add(template.getStrategy(seat));
+                String label = template.getStrategyName(seat);
+                labels.add(labels.contains(label) ? label + "#" + index : label);
+            }
+            strategyOfSeat[seat] = index;
+        }
+        String[] names = labels.toArray(new String[0]);
+
+        ConcurrentLinkedQueue<SelfPlayStats> workerStats = new ConcurrentLinkedQueue<>();
+        ThreadLocal<SelfPlayStats> localStats = ThreadLocal.withInitial(() -> {
+            SelfPlayStats stats = new SelfPlayStats(playerCount, names);
+            workerStats.add(stats);
+            return stats;
+        });
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long start = System.nanoTime();
+        try {
+            pool.invoke(new GameRange(template, strategyOfSeat, rotateSeats, localStats, 0, games));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdown();
+        }
+
+        SelfPlayStats total = new SelfPlayStats(playerCount, names);
+        for (SelfPlayStats stats : workerStats) {
+            total.merge(stats);
+        }
+        total.setElapsedNanos(System.nanoTime() - start);
+        return total;
+    }
+
+    private static int indexOfSame(ArrayList<IBotStrategy> strategies, IBotStrategy strategy) {
+        for (int i = 0; i < strategies.size(); i++) {
+            if (strategies.get(i) == strategy) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Task playing a range of games, split in halves down to small batches.
+     */
+    private class GameRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final GameConfig template;
+        private final int[] strategyOfSeat;
+        private final boolean rotateSeats;
+        private final ThreadLocal<SelfPlayStats> localStats;
+        private final long from;
+        private final long to;
+
+        GameRange(GameConfig template, int[] strategyOfSeat, boolean rotateSeats,
+                  ThreadLocal<SelfPlayStats> localStats, long from, long to) {
+            this.template = template;
+            this.strategyOfSeat = strategyOfSeat;
+            this.rotateSeats = rotateSeats;
+            this.localStats = localStats;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BATCH) {
+                long middle = (from + to) >>> 1;
+                invokeAll(new GameRange(template, strategyOfSeat, rotateSeats, localStats, from, middle),
+                        new GameRange(template, strategyOfSeat, rotateSeats, localStats, middle, to));
+                return;
+            }
+
+            SelfPlayStats stats = localStats.get();
+            int playerCount = template.getPlayerCount();
+            IBotStrategy[] seats = new IBotStrategy[playerCount];
+            int[] seatStrategies = new int[playerCount];
+            for (long game = from; game < to; game++) {
+                int shift = rotateSeats ? (int) (game % playerCount) : 0;
+                for (int seat = 0; seat < playerCount; seat++) {
+                    int source = (seat + shift) % playerCount;
+                    seats[seat] = template.getStrategy(source);
+                    seatStrategies[seat] = strategyOfSeat[source];
+                }
+                GameConfig config = new GameConfig(SimulationDriver.gameSeed(template.getSeed(), game), seats);
+                try {
+                    stats.add(engine.play(config), seatStrategies);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Plays self-play games between bots, prints a summary and writes the summary CSV.
+     * The bots default to the original bot at every seat.
+     *
+     * @param args Number of games, number of players, CSV path, optional seed, parallelism
+     *             and comma-separated bot names (see GameConfig.parseStrategies), which label the strategies
+     * @throws IOException if the simulation or the CSV file fails
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: java engine.SelfPlayRunner <games> <players> <summary.csv> [seed] [parallelism] [bots]");
+            System.exit(1);
+        }
+        long games = Long.parseLong(args[0]);
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+        SelfPlayRunner runner = args.length > 4 ? new SelfPlayRunner(Integer.parseInt(args[4])) : new SelfPlayRunner();
+
+        GameConfig template = GameConfig.parse(seed, args.length > 5 ? args[5] : "salad", Integer.parseInt(args[1]));
+        SelfPlayStats stats = runner.run(template, games, true);
+        System.out.print(stats);
+        try (Writer out = new BufferedWriter(new FileWriter(args[2]))) {
+            stats.writeCsv(out);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package engine;
+
+import card.CriteriaCatalog;
+import card.ICard;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Primitive counters of a self-play run: games, wins and score totals by seat, by bot
+ * strategy and by criteria card held at the end of a game, with the points each
+ * criteria card scored itself.
+ * Each worker thread fills its own instance without synchronization; the instances are
+ * merged once the run is over.
+ */
+public class SelfPlayStats {
+    private final String[] strategyNames;
+    private final long[] seatWins;
+    private final long[] seatScores;
+    private final long[] strategyGames;
+    private final long[] strategyWins;
+    private final long[] strategyScores;
+    private long[] criteriaHeld = new long[0];
+    private long[] criteriaWins = new long[0];
+    private long[] criteriaScores = new long[0];
+    private long[] criteriaPoints = new long[0];
+    private long games;
+    private long moves;
+    private long stalledGames;
+    private long elapsedNanos;
+
+    /**
+     * Constructs new empty counters.
+     *
+     * @param playerCount The number of players per game
+     * @param strategyNames The names of the distinct strategies in the run
+     */
+    public SelfPlayStats(int playerCount, String[] strategyNames) {
+        this.strategyNames = strategyNames.clone();
+        this.seatWins = new long[playerCount];
+        this.seatScores = new long[playerCount];
+        this.strategyGames = new long[strategyNames.length];
+        this.strategyWins = new long[strategyNames.length];
+        this.strategyScores = new long[strategyNames.length];
+    }
+
+    /**
+     * Adds the outcome of one game.
+     *
+     * @param result The game result
+     * @param seatStrategies The strategy index of every seat in that game
+     */
+    public void add(GameResult result, int[] seatStrategies) {
+        games++;
+        moves += result.getMoveCount();
+        if (result.isStalled()) {
+            stalledGames++;
+        }
+        int winner = result.getWinner();
+        for (int seat = 0; seat < seatWins.length; seat++) {
+            int score = result.getScore(seat);
+            int won = seat == winner ? 1 : 0;
+            seatWins[seat] += won;
+            seatScores[seat] += score;
+            strategyGames[seatStrategies[seat]]++;
+            strategyWins[seatStrategies[seat]] += won;
+            strategyScores[seatStrategies[seat]] += score;
+
+            List<ICard> criteriaCards = result.getHand(seat).getCriteriaCards();
+            for (int c = 0; c < criteriaCards.size(); c++) {
+                int id = criteriaCards.get(c).getCriteriaId();
+                if (id >= criteriaHeld.length) {
+                    growCriteria(CriteriaCatalog.getShared().size());
+                }
+                criteriaHeld[id]++;
+                criteriaWins[id] += won;
+                criteriaScores[id] += score;
+                criteriaPoints[id] += result.getCriteriaPoints(seat, c);
+            }
+        }
+    }
+
+    /**
+     * Adds the counts of other stats to these.
+     *
+     * @param other The stats to merge in, from the same run
+     */
+    public void merge(SelfPlayStats other) {
+        games += other.games;
+        moves += other.moves;
+        stalledGames += other.stalledGames;
+        addAll(seatWins, other.seatWins);
+        addAll(seatScores, other.seatScores);
+        addAll(strategyGames, other.strategyGames);
+        addAll(strategyWins, other.strategyWins);
+        addAll(strategyScores, other.strategyScores);
+        if (other.criteriaHeld.length > criteriaHeld.length) {
+            growCriteria(other.criteriaHeld.length);
+        }
+        addAll(criteriaHeld, other.criteriaHeld);
+        addAll(criteriaWins, other.criteriaWins);
+        addAll(criteriaScores, other.criteriaScores);
+        addAll(criteriaPoints, other.criteriaPoints);
+    }
+
+    private static void addAll(long[] into, long[] from) {
+        for (int i = 0; i < from.length; i++) {
+            into[i] += from[i];
+        }
+    }
+
+    private void growCriteria(int size) {
+        criteriaHeld = Arrays.copyOf(criteriaHeld, size);
+        criteriaWins = Arrays.copyOf(criteriaWins, size);
+        criteriaScores = Arrays.copyOf(criteriaScores, size);
+        criteriaPoints = Arrays.copyOf(criteriaPoints, size);
+    }
+
+    /**
+     * Sets the wall-clock time of the run.
+     *
+     * @param elapsedNanos The elapsed time in nanoseconds
+     */
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the number of games played.
+     *
+     * @return The game count
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of games won by a seat.
+     *
+     * @param seat The seat index
+     * @return The win count
+     */
+    public long getSeatWins(int seat) {
+        return seatWins[seat];
+    }
+
+    /**
+     * Gets the number of games won by a strategy, over all seats it played.
+     *
+     * @param strategy The strategy index
+     * @return The win count
+     */
+    public long getStrategyWins(int strategy) {
+        return strategyWins[strategy];
+    }
+
+    /**
+     * Gets the number of players per game.
+     *
+     * @return The player count
+     */
+    public int getPlayerCount() {
+        return seatWins.length;
+    }
+
+    /**
+     * Gets the number of end-game hands that held a criteria card, counting every copy.
+     *
+     * @param criteriaId The id of the criteria text in CriteriaCatalog.getShared()
+     * @return The number of cards held
+     */
+    public long getCriteriaHeld(int criteriaId) {
+        return criteriaId < criteriaHeld.length ? criteriaHeld[criteriaId] : 0;
+    }
+
+    /**
+     * Gets the total points scored by the cards of a criteria.
+     *
+     * @param criteriaId The id of the criteria text in CriteriaCatalog.getShared()
+     * @return The summed points of those cards alone
+     */
+    public long getCriteriaPoints(int criteriaId) {
+        return criteriaId < criteriaPoints.length ? criteriaPoints[criteriaId] : 0;
+    }
+
+    /**
+     * Gets the throughput of the run.
+     *
+     * @return Games per second of wall-clock time
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Writes the summary as CSV with one row per seat, strategy and criteria card.
+     * Columns: category, key, games, wins, win_rate, avg_score.
+     * For criteria cards, games counts the hands holding the card at the end of a game.
+     *
+     * @param out The writer to write to
+     * @throws IOException if writing fails
+     */
+    public void writeCsv(Writer out) throws IOException {
+        out.write("category,key,games,wins,win_rate,avg_score\n");
+        for (int seat = 0; seat < seatWins.length; seat++) {
+            writeRow(out, "seat", String.valueOf(seat), games, seatWins[seat], seatScores[seat]);
+        }
+        for (int s = 0; s < strategyNames.length; s++) {
+            writeRow(out, "strategy", strategyNames[s], strategyGames[s], strategyWins[s], strategyScores[s]);
+        }
+        CriteriaCatalog catalog = CriteriaCatalog.getShared();
+        for (int id = 1; id < criteriaHeld.length; id++) {
+            if (criteriaHeld[id] > 0) {
+                writeRow(out, "criteria", catalog.getCriteria(id), criteriaHeld[id], criteriaWins[id], criteriaScores[id]);
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes one CSV row per criteria card held in the run, without a header.
+     * Columns: players, criteria, held, wins, win_rate, win_rate_lift, avg_points, avg_score.
+     * The lift is the win rate of hands holding the card minus the 1 / players base rate,
+     * avg_points the points scored by the card itself and avg_score the holder's total.
+     *
+     * @param out The writer to write to
+     * @throws IOException if writing fails
+     */
+    public void writeCriteriaRows(Writer out) throws IOException {
+        CriteriaCatalog catalog = CriteriaCatalog.getShared();
+        double baseRate = 1.0 / seatWins.length;
+        for (int id = 1; id < criteriaHeld.length; id++) {
+            long held = criteriaHeld[id];
+            if (held > 0) {
+                double winRate = (double) criteriaWins[id] / held;
+                out.write(seatWins.length + ",\"" + catalog.getCriteria(id).replace("\"", "\"\"") + "\"," + held + ","
+                        + criteriaWins[id] + "," + String.format(Locale.ROOT, "%.4f,%.4f,%.3f,%.2f", winRate,
+                        winRate - baseRate, (double) criteriaPoints[id] / held, (double) criteriaScores[id] / held)
+                        + "\n");
+            }
+        }
+        out.flush();
+    }
+
+    private void writeRow(Writer out, String category, String key, long count, long wins, long scores)
+            throws IOException {
+        out.write(category + ",\"" + key.replace("\"", "\"\"") + "\"," + count + "," + wins + ","
+                + String.format(Locale.ROOT, "%.4f,%.2f", count == 0 ? 0.0 : (double) wins / count,
+                count == 0 ? 0.0 : (double) scores / count) + "\n");
+    }
+
+    /**
+     * Summarizes the run.
+     *
+     * @return Throughput and win rates by seat and strategy
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("%d games, %d moves, %d stalled, %.1f ms, %.0f games/s%n",
+                games, moves, stalledGames, elapsedNanos / 1e6, getGamesPerSecond()));
+        for (int seat = 0; seat < seatWins.length; seat++) {
+            text.append(String.format("Seat %d: win rate %.3f%n", seat, games == 0 ? 0 : (double) seatWins[seat] / games));
+        }
+        for (int s = 0; s < strategyNames.length; s++) {
+            text.append(String.format("%s: win rate %.3f%n", strategyNames[s],
+                    strategyGames[s] == 0 ? 0 : (double) strategyWins[s] / strategyGames[s]));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,115 @@
+package engine;
+
+import game.IBotStrategy;
+import game.SaladBotStrategy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs many headless games in parallel and aggregates their statistics.
+ * Game i is played with a seed derived from the base seed and i, so a run gives the
+ * same results for any number of threads.
+ * Usage: java engine.SimulationDriver &lt;games&gt; &lt;players&gt; [seed] [threads]
+ */
+public class SimulationDriver {
+    private static final long SEED_STEP = 0x9E3779B97F4A7C15L;
+
+    private final HeadlessEngine engine = new HeadlessEngine();
+    private final int threads;
+
+    /**
+     * Constructs a new SimulationDriver using one thread per available core.
+     */
+    public SimulationDriver() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new SimulationDriver.
+     *
+     * @param threads The number of worker threads
+     */
+    public SimulationDriver(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Gets the seed of one game of a run.
+     *
+     * @param baseSeed The seed of the run
+     * @param game The game number
+     * @return The game's seed
+     */
+    public static long gameSeed(long baseSeed, long game) {
+        return baseSeed + game * SEED_STEP;
+    }
+
+    /**
+     * Plays the given number of games, spread over the worker threads.
+     * Each worker keeps its own stats, which are merged once all games are done.
+     *
+     * @param template The game configuration; its seed is the base seed of the run
+     * @param games The number of games to play
+     * @return The merged statistics
+     * @throws IOException if the card manifest can't be loaded
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public SimulationStats run(GameConfig template, int games) throws IOException, InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try {
+            ArrayList<Future<SimulationStats>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int first = t;
+                workers.add(pool.submit(() -> {
+                    SimulationStats stats = new SimulationStats(template.getPlayerCount());
+                    for (int game = first; game < games; game += threads) {
+                        stats.add(engine.play(template.withSeed(gameSeed(template.getSeed(), game))));
+                    }
+                    return stats;
+                }));
+            }
+
+            SimulationStats total = new SimulationStats(template.getPlayerCount());
+            for (Future<SimulationStats> worker : workers) {
+                total.merge(worker.get());
+            }
+            total.setElapsedNanos(System.nanoTime() - start);
+            return total;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Plays games between original bots and prints the statistics.
+     *
+     * @param args Number of games, number of players, optional seed and thread count
+     * @throws Exception if the simulation fails
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: java engine.SimulationDriver <games> <players> [seed] [threads]");
+            System.exit(1);
+        }
+        int games = Integer.parseInt(args[0]);
+        IBotStrategy[] strategies = new IBotStrategy[Integer.parseInt(args[1])];
+        for (int seat = 0; seat < strategies.length; seat++) {
+            strategies[seat] = new SaladBotStrategy();
+        }
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        SimulationDriver driver = args.length > 3 ? new SimulationDriver(Integer.parseInt(args[3])) : new SimulationDriver();
+
+        System.out.print(driver.run(new GameConfig(seed, strategies), games));
+    }
+}
@@ -0,0 +1,138 @@
+package engine;
+
+/**
+ * Aggregated statistics of many headless games with the same number of players.
+ * A stats object is filled by one thread and merged with the others at the end.
+ */
+public class SimulationStats {
+    private final long[] wins;
+    private final long[] totalScores;
+    private long games;
+    private long moves;
+    private long stalledGames;
+    private long elapsedNanos;
+
+    /**
+     * Constructs new empty stats.
+     *
+     * @param playerCount The number of players per game
+     */
+    public SimulationStats(int playerCount) {
+        this.wins = new long[playerCount];
+        this.totalScores = new long[playerCount];
+    }
+
+    /**
+     * Adds the outcome of one game.
+     *
+     * @param result The game result
+     */
+    public void add(GameResult result) {
+        games++;
+        moves += result.getMoveCount();
+        if (result.isStalled()) {
+            stalledGames++;
+        }
+        wins[result.getWinner()]++;
+        for (int seat = 0; seat < wins.length; seat++) {
+            totalScores[seat] += result.getScore(seat);
+        }
+    }
+
+    /**
+     * Adds the counts of other stats to these.
+     *
+     * @param other The stats to merge in
+     */
+    public void merge(SimulationStats other) {
+        games += other.games;
+        moves += other.moves;
+        stalledGames += other.stalledGames;
+        for (int seat = 0; seat < wins.length; seat++) {
+            wins[seat] += other.wins[seat];
+            totalScores[seat] += other.totalScores[seat];
+        }
+    }
+
+    /**
+     * Sets the wall-clock time the games took.
+     *
+     * @param elapsedNanos The elapsed time in nanoseconds
+     */
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the number of games played.
+     *
+     * @return The game count
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of moves played in all games.
+     *
+     * @return The move count
+     */
+    public long getMoves() {
+        return moves;
+    }
+
+    /**
+     * Gets the number of games that ended because no player could take a card.
+     *
+     * @return The stalled game count
+     */
+    public long getStalledGames() {
+        return stalledGames;
+    }
+
+    /**
+     * Gets the number of games won by a seat.
+     *
+     * @param seat The seat index
+     * @return The win count
+     */
+    public long getWins(int seat) {
+        return wins[seat];
+    }
+
+    /**
+     * Gets the average final score of a seat.
+     *
+     * @param seat The seat index
+     * @return The average score
+     */
+    public double getAverageScore(int seat) {
+        return games == 0 ? 0 : (double) totalScores[seat] / games;
+    }
+
+    /**
+     * Gets the throughput of the games.
+     *
+     * @return Games per second of wall-clock time
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Summarizes the stats.
+     *
+     * @return Throughput and per-seat results
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("%d games, %d moves, %d stalled, %.1f ms, %.0f games/s%n",
+                games, moves, stalledGames, elapsedNanos / 1e6, getGamesPerSecond()));
+        for (int seat = 0; seat < wins.length; seat++) {
+            text.append(String.format("Seat %d: win rate %.3f, average score %.2f%n",
+                    seat, games == 0 ? 0 : (double) wins[seat] / games, getAverageScore(seat)));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,86 @@
+package game;
+
+/**
+ * Outcome of a bot's search for one turn: the chosen move and how much searching fit
+ * in the turn's budget.
+ */
+public class BotDecision {
+    private final GameMove move;
+    private final long playouts;
+    private final long nodes;
+    private final long elapsedNanos;
+    private final boolean timedOut;
+
+    /**
+     * Constructs a new BotDecision.
+     *
+     * @param move The chosen move
+     * @param playouts The number of playouts or evaluated lines
+     * @param nodes The number of search nodes created
+     * @param elapsedNanos The wall-clock time of the search
+     * @param timedOut true if the search was stopped by its deadline
+     */
+    public BotDecision(GameMove move, long playouts, long nodes, long elapsedNanos, boolean timedOut) {
+        this.move = move;
+        this.playouts = playouts;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+        this.timedOut = timedOut;
+    }
+
+    /**
+     * Gets the chosen move.
+     *
+     * @return The move
+     */
+    public GameMove getMove() {
+        return move;
+    }
+
+    /**
+     * Gets the number of playouts that finished within the budget.
+     *
+     * @return The playout count
+     */
+    public long getPlayouts() {
+        return playouts;
+    }
+
+    /**
+     * Gets the number of search nodes created.
+     *
+     * @return The node count
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Gets the wall-clock time of the search.
+     *
+     * @return The elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Checks if the search was stopped by its deadline rather than finishing its work.
+     *
+     * @return true if the deadline was reached
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * Describes the decision.
+     *
+     * @return The move and the search statistics
+     */
+    @Override
+    public String toString() {
+        return String.format("%s (%d playouts, %d nodes, %.1f ms%s)", move, playouts, nodes, elapsedNanos / 1e6,
+                timedOut ? ", timed out" : "");
+    }
+}
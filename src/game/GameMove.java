@@ -0,0 +1,196 @@
+package game;
+
+import card.ICard;
+import piles.IPile;
+import player.IPlayer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * One turn of a player: either a point card from one pile, or up to two vegetable cards
+ * from the market, optionally followed by flipping one criteria card of the hand to its
+ * vegetable side. Vegetable slots are numbered like the market letters: slots below the
+ * pile count are the first row (A, B, C), the others the second row (D, E, F).
+ * Moves are immutable values and can be logged, compared and replayed.
+ */
+public class GameMove {
+    /**
+     * Move that takes no card, used when nothing can be taken.
+     */
+    public static final GameMove PASS = new GameMove(-1, new int[0], -1);
+
+    private final int pointPile;
+    private final int[] veggieSlots;
+    private final int flipIndex;
+
+    private GameMove(int pointPile, int[] veggieSlots, int flipIndex) {
+        this.pointPile = pointPile;
+        this.veggieSlots = veggieSlots;
+        this.flipIndex = flipIndex;
+    }
+
+    /**
+     * Creates a move that takes the point card of a pile.
+     *
+     * @param pile The pile index
+     * @return The move
+     */
+    public static GameMove pointCard(int pile) {
+        return new GameMove(pile, new int[0], -1);
+    }
+
+    /**
+     * Creates a move that takes vegetable cards, in the given order.
+     *
+     * @param slots One or two market slots
+     * @return The move
+     */
+    public static GameMove veggieCards(int... slots) {
+        if (slots.length < 1 || slots.length > 2) {
+            throw new IllegalArgumentException("A player takes one or two veggie cards");
+        }
+        return new GameMove(-1, slots.clone(), -1);
+    }
+
+    /**
+     * Creates the same move followed by flipping a criteria card to its vegetable side.
+     * The index is taken in the hand after the move's cards were added to its end,
+     * so a card taken by the move can be flipped too.
+     *
+     * @param handIndex The index of the card to flip in the hand
+     * @return The move with the flip
+     */
+    public GameMove withFlip(int handIndex) {
+        if (handIndex < 0) {
+            throw new IllegalArgumentException("Invalid hand index: " + handIndex);
+        }
+        return new GameMove(pointPile, veggieSlots, handIndex);
+    }
+
+    /**
+     * Gets the card flipped after taking the cards.
+     *
+     * @return The hand index of the card, or -1 if no card is flipped
+     */
+    public int getFlipIndex() {
+        return flipIndex;
+    }
+
+    /**
+     * Gets the pile whose point card is taken.
+     *
+     * @return The pile index, or -1 if the move takes vegetable cards
+     */
+    public int getPointPile() {
+        return pointPile;
+    }
+
+    /**
+     * Gets the number of vegetable cards taken.
+     *
+     * @return 0, 1 or 2
+     */
+    public int getVeggieCount() {
+        return veggieSlots.length;
+    }
+
+    /**
+     * Gets one of the vegetable slots taken.
+     *
+     * @param index 0 for the first slot, 1 for the second
+     * @return The market slot
+     */
+    public int getVeggieSlot(int index) {
+        return veggieSlots[index];
+    }
+
+    /**
+     * Checks if the move takes no card.
+     *
+     * @return true for a pass
+     */
+    public boolean isPass() {
+        return pointPile < 0 && veggieSlots.length == 0;
+    }
+
+    /**
+     * Plays the move for a player, adding the taken cards to the player's hand and then
+     * flipping the chosen card, like SaladHumanTurnHandler does.
+     * Slots that are empty when the move is played are skipped.
+     *
+     * @param game The game to play in
+     * @param player The player taking the cards
+     * @return Number of cards taken
+     */
+    public int applyTo(IGame game, IPlayer player) {
+        ArrayList<IPile> piles = game.getGamePiles();
+        int taken = 0;
+        if (pointPile >= 0) {
+            ICard card = piles.get(pointPile).buyPointCard(piles);
+            if (card != null) {
+                player.getHand().add(card);
+                taken++;
+            }
+        }
+        for (int slot : veggieSlots) {
+            IPile pile = piles.get(slot % piles.size());
+            int row = slot / piles.size();
+            if (pile.getVeggieCard(row) != null) {
+                player.getHand().add(pile.buyVeggieCard(row, piles));
+                taken++;
+            }
+        }
+        if (flipIndex >= 0 && flipIndex < player.getHand().size()) {
+            player.getHand().get(flipIndex).setCriteriaSideUp(false);
+        }
+        return taken;
+    }
+
+    /**
+     * Checks if another move takes the same cards in the same order.
+     *
+     * @param other The object to compare with
+     * @return true if the moves are equal
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof GameMove)) {
+            return false;
+        }
+        GameMove move = (GameMove) other;
+        return pointPile == move.pointPile && Arrays.equals(veggieSlots, move.veggieSlots)
+                && flipIndex == move.flipIndex;
+    }
+
+    /**
+     * Gets a hash code consistent with equals.
+     *
+     * @return The hash code
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * pointPile + Arrays.hashCode(veggieSlots)) + flipIndex;
+    }
+
+    /**
+     * Describes the move with the market labels shown to human players.
+     *
+     * @return e.g. "point 2", "veggies AD", "veggies B, flip 4" or "pass"
+     */
+    @Override
+    public String toString() {
+        String flip = flipIndex >= 0 ? ", flip " + flipIndex : "";
+        if (pointPile >= 0) {
+            return "point " + pointPile + flip;
+        }
+        if (veggieSlots.length == 0) {
+            return "pass";
+        }
+        StringBuilder text = new StringBuilder("veggies ");
+        for (int slot : veggieSlots) {
+            text.append((char) ('A' + slot));
+        }
+        return text.append(flip).toString();
+    }
+}
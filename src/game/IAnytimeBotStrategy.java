@@ -0,0 +1,27 @@
+package game;
+
+import player.IPlayer;
+
+/**
+ * Bot strategy whose search can be stopped at any time with the best move found so far.
+ * The search runs in the background while the caller waits at most the given budget;
+ * at the deadline it is cancelled and its best move so far is played.
+ */
+public interface IAnytimeBotStrategy extends IBotStrategy {
+    /**
+     * Searches for a move for at most the given wall-clock time.
+     *
+     * @param game The game being played
+     * @param player The bot whose turn it is
+     * @param budgetNanos The longest time to search, in nanoseconds
+     * @return The chosen move with the search statistics
+     */
+    BotDecision decide(IGame game, IPlayer player, long budgetNanos);
+
+    /**
+     * Gets the budget chooseMove searches with.
+     *
+     * @return The budget per turn in nanoseconds, or Long.MAX_VALUE for no limit
+     */
+    long getBudgetNanos();
+}
@@ -0,0 +1,19 @@
+package game;
+
+import player.IPlayer;
+
+/**
+ * Decides the moves of a bot player.
+ * One strategy instance may be shared by many games, also running on different threads,
+ * so implementations must keep per-game state out of their fields.
+ */
+public interface IBotStrategy {
+    /**
+     * Chooses the move of a bot for its current turn, without changing the game.
+     *
+     * @param game The game being played
+     * @param player The bot whose turn it is
+     * @return The chosen move, or GameMove.PASS if no card can be taken
+     */
+    GameMove chooseMove(IGame game, IPlayer player);
+}
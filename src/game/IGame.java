@@ -1,6 +1,7 @@
 package game;
 
 import java.util.ArrayList;
+import java.util.SplittableRandom;
 import card.ICardCounter;
 import market.IMarketView;
 import piles.IPile;
@@ -53,4 +54,12 @@ public interface IGame {
      * @return The score calculator instance
      */
     IScoreCalculator getScoreCalculator();
+
+    /**
+     * Gets the random number stream of this game.
+     * Every random choice of the game is drawn from it, so a seeded game can be replayed.
+     *
+     * @return The game's random number generator
+     */
+    SplittableRandom getRandom();
 }
\ No newline at end of file
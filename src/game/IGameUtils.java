@@ -1,7 +1,7 @@
 package game;
 
 import card.ICard;
-import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Provides utility methods for displaying game information.
@@ -16,5 +16,5 @@ public interface IGameUtils {
      * @param hand The player's hand to display
      * @return Formatted string showing hand contents
      */
-    String displayHand(ArrayList<ICard> hand);
+    String displayHand(List<ICard> hand);
 }
\ No newline at end of file
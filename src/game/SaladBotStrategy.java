@@ -0,0 +1,91 @@
+package game;
+
+import card.ICard;
+import piles.IPile;
+import player.IPlayer;
+import scoring.IScoreCalculator;
+
+import java.util.ArrayList;
+
+/**
+ * The original PointSalad bot: flips a coin between taking the point card that
+ * gives the highest score and taking the first two vegetable cards in the market,
+ * and falls back to the other option when the chosen one takes nothing.
+ * Like a human player, it then flips the criteria card to its vegetable side that
+ * raises its score the most, if any does.
+ */
+public class SaladBotStrategy implements IBotStrategy {
+    /**
+     * Constructs a new SaladBotStrategy.
+     */
+    public SaladBotStrategy() {
+    }
+
+    /**
+     * Chooses between a point card and vegetable cards with the game's random number stream,
+     * followed by the best criteria card flip.
+     *
+     * @param game The game being played
+     * @param player The bot whose turn it is
+     * @return The chosen move, or GameMove.PASS if no card can be taken
+     */
+    public GameMove chooseMove(IGame game, IPlayer player) {
+        int choice = game.getRandom().nextInt(2);
+        GameMove move = choice == 0 ? choosePointCard(game, player) : chooseVeggieCards(game);
+        if (move.isPass()) {
+            move = choice == 0 ? chooseVeggieCards(game) : choosePointCard(game, player);
+        }
+        return SaladGreedyBotStrategy.withBestFlip(game, player, move);
+    }
+
+    /**
+     * Finds the point card that gives the highest score.
+     *
+     * @param game The game being played
+     * @param player The bot taking the card
+     * @return The move taking the card, or GameMove.PASS if no card gives a positive score
+     */
+    private GameMove choosePointCard(IGame game, IPlayer player) {
+        int highestPointCardIndex = -1;
+        int highestPointCardScore = 0;
+        IScoreCalculator calculator = game.getScoreCalculator();
+        ArrayList<IPile> piles = game.getGamePiles();
+        int currentScore = calculator.calculateScore(player.getHand(), player, game.getPlayers());
+
+        for (int i = 0; i < piles.size(); i++) {
+            ICard pointCard = piles.get(i).peekPointCard(piles);
+            if (pointCard != null) {
+                int score = currentScore + calculator.scoreDelta(player.getHand(), player, game.getPlayers(), pointCard, null);
+
+                if (score > highestPointCardScore) {
+                    highestPointCardScore = score;
+                    highestPointCardIndex = i;
+                }
+            }
+        }
+        return highestPointCardIndex == -1 ? GameMove.PASS : GameMove.pointCard(highestPointCardIndex);
+    }
+
+    /**
+     * Picks the first two vegetable cards, pile by pile.
+     *
+     * @param game The game being played
+     * @return The move taking the cards, or GameMove.PASS if the market has none
+     */
+    private GameMove chooseVeggieCards(IGame game) {
+        ArrayList<IPile> piles = game.getGamePiles();
+        int[] slots = new int[2];
+        int cardsPicked = 0;
+        for (int p = 0; p < piles.size() && cardsPicked < 2; p++) {
+            for (int row = 0; row < 2 && cardsPicked < 2; row++) {
+                if (piles.get(p).getVeggieCard(row) != null) {
+                    slots[cardsPicked++] = row * piles.size() + p;
+                }
+            }
+        }
+        if (cardsPicked == 0) {
+            return GameMove.PASS;
+        }
+        return cardsPicked == 1 ? GameMove.veggieCards(slots[0]) : GameMove.veggieCards(slots);
+    }
+}
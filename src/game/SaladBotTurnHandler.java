@@ -1,11 +1,7 @@
 package game;
 
-import card.ICard;
-import piles.IPile;
 import player.IPlayer;
 
-import java.util.ArrayList;
-
 /**
  * Handles turn logic for bot players in the PointSalad game.
  * Implements ITurnHandler to provide bot-specific turn behavior.
@@ -13,6 +9,8 @@ import java.util.ArrayList;
 public class SaladBotTurnHandler implements ITurnHandler {
     private IGame game;
     private IGameUtils handDisplayer;
+    private IBotStrategy strategy;
+    private BotDecision lastDecision;
 
     /**
      * Constructs a new SaladBotTurnHandler with the specified game instance.
@@ -20,97 +18,50 @@ public class SaladBotTurnHandler implements ITurnHandler {
      * @param game The current game instance
      */
     public SaladBotTurnHandler(IGame game) {
+        this(game, new SaladBotStrategy());
+    }
+
+    /**
+     * Constructs a new SaladBotTurnHandler whose bots play with the given strategy.
+     *
+     * @param game The current game instance
+     * @param strategy The strategy choosing the bots' moves
+     */
+    public SaladBotTurnHandler(IGame game, IBotStrategy strategy) {
         this.game = game;
         this.handDisplayer = new SaladUtils(this.game);
+        this.strategy = strategy;
     }
 
     /**
      * Executes a bot player's turn by either taking point cards or vegetable cards.
-     * The bot makes random but strategic decisions to maximize its score.
+     * The move is chosen by the handler's bot strategy. Anytime strategies search within
+     * their budget, and the playouts and nodes of their search are logged.
      *
      * @param thisPlayer The bot player whose turn is being handled
      */
     public void handleTurn(IPlayer thisPlayer) {
-        boolean emptyPiles = false;
-        int choice = (int) (Math.random() * 2);
-        boolean tookCard = false;
-
-        if(choice == 0) {
-            if (takePointCard(thisPlayer)) {
-                tookCard = true;
-            }
-
-            if(!tookCard) {
-                takeVeggieCard(thisPlayer, game.getGamePiles());
-            }
-        } else if (choice == 1) {
-            if (takeVeggieCard(thisPlayer, game.getGamePiles())) {
-                tookCard = true;
-            }
-
-            if (!tookCard) {
-                takePointCard(thisPlayer);
-            }
+        GameMove move;
+        if (strategy instanceof IAnytimeBotStrategy) {
+            IAnytimeBotStrategy anytime = (IAnytimeBotStrategy) strategy;
+            lastDecision = anytime.decide(game, thisPlayer, anytime.getBudgetNanos());
+            System.out.println("Bot " + thisPlayer.getPlayerID() + " played " + lastDecision);
+            move = lastDecision.getMove();
+        } else {
+            move = strategy.chooseMove(game, thisPlayer);
         }
+        move.applyTo(game, thisPlayer);
 
         game.sendToAllPlayers("Bot " + thisPlayer.getPlayerID() +
                 "'s hand is now: \n"+handDisplayer.displayHand(thisPlayer.getHand())+"\n");
     }
 
     /**
-     * Attempts to take a point card from the piles that provides the highest score.
-     *
-     * @param thisPlayer The bot player taking the card
-     * @return true if a point card was successfully taken, false otherwise
-     */
-    private boolean takePointCard(IPlayer thisPlayer) {
-        int highestPointCardIndex = -1;
-        int highestPointCardScore = 0;
-
-        for (int i = 0; i < game.getGamePiles().size(); i++) {
-            if (game.getGamePiles().get(i).getPointCard(game.getGamePiles()) != null) {
-                ArrayList<ICard> tempHand = new ArrayList<>(thisPlayer.getHand());
-                tempHand.add(game.getGamePiles().get(i).getPointCard(game.getGamePiles()));
-                int score = game.getScoreCalculator().calculateScore(tempHand, thisPlayer, game.getPlayers());
-
-                if (score > highestPointCardScore) {
-                    highestPointCardScore = score;
-                    highestPointCardIndex = i;
-                }
-            }
-        }
-
-        if (highestPointCardIndex != -1 &&
-                game.getGamePiles().get(highestPointCardIndex).getPointCard(game.getGamePiles()) != null) {
-            thisPlayer.getHand().add(game.getGamePiles().get(highestPointCardIndex).buyPointCard(game.getGamePiles()));
-            return true;
-        }
-        return false;
-    }
-
-    /**
-     * Attempts to take up to two vegetable cards from available piles.
+     * Gets the search report of the last turn played by an anytime strategy.
      *
-     * @param thisPlayer The bot player taking the cards
-     * @param piles The available game piles
-     * @return true if at least one vegetable card was taken, false otherwise
+     * @return The last decision, or null if the strategy isn't an anytime strategy or no turn was played
      */
-    private boolean takeVeggieCard(IPlayer thisPlayer, ArrayList<IPile> piles) {
-        int cardsPicked = 0;
-        boolean cardTaken = false;
-
-        for(IPile pile : piles) {
-            if(pile.getVeggieCard(0) != null && cardsPicked < 2) {
-                thisPlayer.getHand().add(pile.buyVeggieCard(0, piles));
-                cardsPicked++;
-                cardTaken = true;
-            }
-            if(pile.getVeggieCard(1) != null && cardsPicked < 2) {
-                thisPlayer.getHand().add(pile.buyVeggieCard(1, piles));
-                cardsPicked++;
-                cardTaken = true;
-            }
-        }
-        return cardTaken;
+    public BotDecision getLastDecision() {
+        return lastDecision;
     }
 }
@@ -1,5 +1,6 @@
 package game;
 
+import card.CardCatalog;
 import card.ICardCounter;
 import card.SaladCardCounter;
 import market.IMarket;
@@ -18,6 +19,7 @@ import scoring.SaladScoreCalc;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Scanner;
+import java.util.SplittableRandom;
 
 /**
  * The main game implementation for PointSalad.
@@ -33,6 +35,7 @@ public class SaladGame implements IGame {
     private ICardCounter cardCounter;
     private IScoreCalculator scoreCalculator;
     private INetwork network;
+    private SplittableRandom random;
 
     /**
      * Constructs a new SaladGame instance with the specified arguments.
@@ -41,12 +44,39 @@ public class SaladGame implements IGame {
      * @throws IOException if there's an error initializing the game
      */
     public SaladGame(String[] args) throws IOException {
+        this(args, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new SaladGame whose random choices are reproducible from a seed.
+     *
+     * @param args Command line arguments for game configuration
+     * @param seed The seed of the game's random number stream
+     * @throws IOException if there's an error initializing the game
+     */
+    public SaladGame(String[] args, long seed) throws IOException {
+        this(args, new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructs a new SaladGame drawing its random choices from the given stream.
+     *
+     * @param args Command line arguments for game configuration
+     * @param random The game's random number stream, not shared with other games
+     * @throws IOException if there's an error initializing the game
+     */
+    public SaladGame(String[] args, SplittableRandom random) throws IOException {
         this.network = new SaladNetwork();
         this.input = args;
+        this.random = random;
 
         initializePlayers();
 
-        this.piles = new SaladPileInitializer(players.size());
+        // Dealing gets its own stream, so turn choices don't depend on how many numbers it drew
+        SaladPileInitializer pileInitializer = new SaladPileInitializer(players.size(), CardCatalog.getDefault(),
+                SaladPileInitializer.DEFAULT_PILES, random.split());
+        System.out.println("Number of players: " + players.size() + " Number of cards " + pileInitializer.getCardsPerVeggie());
+        this.piles = pileInitializer;
         this.market = new SaladMarket(piles.getPiles());
         this.marketView = new SaladMarketView(market);
         this.cardCounter = new SaladCardCounter();
@@ -101,6 +131,15 @@ public class SaladGame implements IGame {
         return this.scoreCalculator;
     }
 
+    /**
+     * Gets the random number stream of this game.
+     *
+     * @return The game's random number generator
+     */
+    public SplittableRandom getRandom() {
+        return this.random;
+    }
+
     /**
      * Sends a message to all non-bot players.
      *
@@ -9,14 +9,27 @@ import player.IPlayer;
  */
 public class SaladGameLoop implements IGameLoop {
     IGame saladGame;
+    IBotStrategy botStrategy;
 
     /**
      * Constructs a new SaladGameLoop with the specified game instance.
+     * Bots play with the original SaladBotStrategy.
      *
      * @param game The game instance to manage
      */
     public SaladGameLoop(IGame game) {
+        this(game, new SaladBotStrategy());
+    }
+
+    /**
+     * Constructs a new SaladGameLoop whose bots play with the given strategy.
+     *
+     * @param game The game instance to manage
+     * @param botStrategy The strategy choosing the bots' moves
+     */
+    public SaladGameLoop(IGame game, IBotStrategy botStrategy) {
         this.saladGame = game;
+        this.botStrategy = botStrategy;
     }
 
     /**
@@ -25,10 +38,10 @@ public class SaladGameLoop implements IGameLoop {
      * Calls the result handler to finish the game and determine the winner.
      */
     public void runLoop() {
-        int currentPlayer = (int) (Math.random() * (saladGame.getPlayers().size()));
+        int currentPlayer = saladGame.getRandom().nextInt(saladGame.getPlayers().size());
         boolean keepPlaying = true;
         ITurnHandler humanHandler = new SaladHumanTurnHandler(this.saladGame);
-        ITurnHandler botHandler = new SaladBotTurnHandler(this.saladGame);
+        ITurnHandler botHandler = new SaladBotTurnHandler(this.saladGame, this.botStrategy);
         IGameResultHandler resultHandler = new SaladResultHandler(this.saladGame);
 
         while(keepPlaying) {
@@ -0,0 +1,176 @@
+package game;
+
+import card.ICard;
+import piles.IPile;
+import player.IPlayer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bot that scores every legal move of its turn and takes the one that raises its own
+ * score the most: each point card on offer, each single vegetable card and each pair of
+ * vegetable cards in the market (3 + 6 + 15 moves with three piles).
+ * All moves are scored in one pass over the hand with IScoreCalculator.scoreDeltas,
+ * so the hand is counted once per turn and never copied.
+ * With flips enabled, every move is also scored followed by flipping each criteria card of
+ * the hand, or one just taken, to its vegetable side, and the best flip joins the move.
+ * Ties go to the first move found, point cards first, so the bot uses no random numbers.
+ */
+public class SaladGreedyBotStrategy implements IBotStrategy {
+    private final boolean flips;
+
+    /**
+     * Constructs a new SaladGreedyBotStrategy that also considers flipping criteria cards.
+     */
+    public SaladGreedyBotStrategy() {
+        this(true);
+    }
+
+    /**
+     * Constructs a new SaladGreedyBotStrategy.
+     *
+     * @param flips true to consider flipping a criteria card after taking cards
+     */
+    public SaladGreedyBotStrategy(boolean flips) {
+        this.flips = flips;
+    }
+
+    /**
+     * Chooses the move with the highest score change.
+     *
+     * @param game The game being played
+     * @param player The bot whose turn it is
+     * @return The best move, or GameMove.PASS if no card can be taken
+     */
+    public GameMove chooseMove(IGame game, IPlayer player) {
+        ArrayList<IPile> piles = game.getGamePiles();
+        int pileCount = piles.size();
+        int slots = 2 * pileCount;
+        int capacity = pileCount + slots + slots * (slots - 1) / 2;
+        ICard[] firsts = new ICard[capacity];
+        ICard[] seconds = new ICard[capacity];
+        // Point moves are stored as -1 - pile, vegetable moves as slot * slots + second slot (or slot)
+        int[] moves = new int[capacity];
+        int count = 0;
+
+        for (int p = 0; p < pileCount; p++) {
+            ICard pointCard = piles.get(p).peekPointCard(piles);
+            if (pointCard != null) {
+                firsts[count] = pointCard;
+                moves[count++] = -1 - p;
+            }
+        }
+
+        ICard[] market = new ICard[slots];
+        for (int slot = 0; slot < slots; slot++) {
+            market[slot] = piles.get(slot % pileCount).getVeggieCard(slot / pileCount);
+        }
+        for (int a = 0; a < slots; a++) {
+            if (market[a] == null) {
+                continue;
+            }
+            firsts[count] = market[a];
+            moves[count++] = a * slots + a;
+            for (int b = a + 1; b < slots; b++) {
+                if (market[b] != null) {
+                    firsts[count] = market[a];
+                    seconds[count] = market[b];
+                    moves[count++] = a * slots + b;
+                }
+            }
+        }
+        if (count == 0) {
+            return GameMove.PASS;
+        }
+
+        int[] deltas = new int[count];
+        ICard[] flipped = flips ? new ICard[count] : null;
+        if (flips) {
+            game.getScoreCalculator().scoreDeltasWithFlip(player.getHand(), player, game.getPlayers(), firsts, seconds,
+                    count, deltas, flipped);
+        } else {
+            game.getScoreCalculator().scoreDeltas(player.getHand(), player, game.getPlayers(), firsts, seconds,
+                    count, deltas);
+        }
+        int best = 0;
+        for (int i = 1; i < count; i++) {
+            if (deltas[i] > deltas[best]) {
+                best = i;
+            }
+        }
+
+        GameMove move = toMove(moves[best], slots);
+        if (flipped == null || flipped[best] == null) {
+            return move;
+        }
+        return move.withFlip(handIndex(player, flipped[best], firsts[best], seconds[best]));
+    }
+
+    /**
+     * Adds the criteria card flip that raises the score of a chosen move the most.
+     * Used by searching bots that choose which cards to take but not what to flip.
+     *
+     * @param game The game being played
+     * @param player The bot whose turn it is
+     * @param move The chosen move, taking at least one card
+     * @return The move with its best flip, or the move itself if no flip helps
+     */
+    public static GameMove withBestFlip(IGame game, IPlayer player, GameMove move) {
+        if (move.isPass()) {
+            return move;
+        }
+        ArrayList<IPile> piles = game.getGamePiles();
+        ICard[] first = new ICard[1];
+        ICard[] second = new ICard[1];
+        if (move.getPointPile() >= 0) {
+            first[0] = piles.get(move.getPointPile()).peekPointCard(piles);
+        } else {
+            first[0] = marketCard(piles, move.getVeggieSlot(0));
+            second[0] = move.getVeggieCount() == 2 ? marketCard(piles, move.getVeggieSlot(1)) : null;
+        }
+        int[] delta = new int[1];
+        ICard[] flipped = new ICard[1];
+        game.getScoreCalculator().scoreDeltasWithFlip(player.getHand(), player, game.getPlayers(), first, second, 1,
+                delta, flipped);
+        return flipped[0] == null ? move : move.withFlip(handIndex(player, flipped[0], first[0], second[0]));
+    }
+
+    private static ICard marketCard(ArrayList<IPile> piles, int slot) {
+        return piles.get(slot % piles.size()).getVeggieCard(slot / piles.size());
+    }
+
+    private static GameMove toMove(int move, int slots) {
+        if (move < 0) {
+            return GameMove.pointCard(-1 - move);
+        }
+        int first = move / slots;
+        int second = move % slots;
+        return first == second ? GameMove.veggieCards(first) : GameMove.veggieCards(first, second);
+    }
+
+    /**
+     * Finds where a card to flip will be in the hand once the move's cards were added.
+     *
+     * @param player The bot
+     * @param card The card to flip
+     * @param first The first card taken by the move
+     * @param second The second card taken by the move, or null
+     * @return The hand index of the card
+     */
+    private static int handIndex(IPlayer player, ICard card, ICard first, ICard second) {
+        List<ICard> hand = player.getHand();
+        if (card == first) {
+            return hand.size();
+        }
+        if (card == second) {
+            return hand.size() + 1;
+        }
+        for (int i = 0; i < hand.size(); i++) {
+            if (hand.get(i) == card) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("The card to flip is not in the hand");
+    }
+}
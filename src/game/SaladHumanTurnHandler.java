@@ -102,17 +102,18 @@ public class SaladHumanTurnHandler implements ITurnHandler {
      */
     public boolean takeVeggieCard(IPlayer thisPlayer, String pileChoice) {
         int takenVeggies = 0;
+        int pileCount = game.getGamePiles().size();
         for (int charIndex = 0; charIndex < pileChoice.length(); charIndex++) {
             char chosenChar = Character.toUpperCase(pileChoice.charAt(charIndex));
 
-            if (chosenChar < 'A' || chosenChar > 'F') {
+            if (chosenChar < 'A' || chosenChar >= 'A' + 2 * pileCount) {
                 thisPlayer.sendMessage("\nInvalid choice. Please choose up to two veggie cards from the market.\n");
                 return false;
             }
 
             int choice = chosenChar - 'A';
-            int pileIndex = choice % 3; // 0, 1, or 2
-            int veggieIndex = choice < 3 ? 0 : 1;
+            int pileIndex = choice % pileCount;
+            int veggieIndex = choice < pileCount ? 0 : 1;
 
             IPile chosenPile = game.getGamePiles().get(pileIndex);
             ICard veggieCard = chosenPile.getVeggieCard(veggieIndex);
@@ -139,12 +140,7 @@ public class SaladHumanTurnHandler implements ITurnHandler {
      * @return true if any criteria cards found, false otherwise
      */
     private boolean hasCriteriaCard(IPlayer player) {
-        for (ICard card : player.getHand()) {
-            if (card.getCriteriaSideUp()) {
-                return true;
-            }
-        }
-        return false;
+        return !player.getHand().getCriteriaCards().isEmpty();
     }
 
     /**
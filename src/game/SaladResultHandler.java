@@ -28,11 +28,12 @@ public class SaladResultHandler implements IGameResultHandler {
         game.sendToAllPlayers("\n-------------------------------------- CALCULATING SCORES --------------------------------------\n");
 
         // Calculate and display scores for each player
-        for(IPlayer player : game.getPlayers()) {
+        int[] scores = game.getScoreCalculator().scoreAll(game.getPlayers());
+        for(int i = 0; i < scores.length; i++) {
+            IPlayer player = game.getPlayers().get(i);
             game.sendToAllPlayers("Player " + player.getPlayerID() + "'s hand is: \n" +
                     handDisplayer.displayHand(player.getHand()));
-            player.setScore(game.getScoreCalculator().calculateScore(
-                    player.getHand(), player, game.getPlayers()));
+            player.setScore(scores[i]);
             game.sendToAllPlayers("\nPlayer " + player.getPlayerID() + "'s score is: " + player.getScore());
         }
 
@@ -5,7 +5,7 @@ import card.ICardCounter;
 import card.SaladCardCounter;
 import card.Vegetable;
 
-import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Provides utility methods for displaying game information.
@@ -33,7 +33,7 @@ public class SaladUtils implements IGameUtils {
      * @param hand The player's hand to display
      * @return Formatted string representation of the hand
      */
-    public String displayHand(ArrayList<ICard> hand) {
+    public String displayHand(List<ICard> hand) {
         String handString = "Criteria:\t";
         // Display criteria cards
         for (int i = 0; i < hand.size(); i++) {
@@ -44,8 +44,9 @@ public class SaladUtils implements IGameUtils {
 
         handString += "\nVegetables:\t";
         // Display vegetable counts
+        int[] histogram = cardCounter.countHistogram(hand, new int[ICardCounter.HISTOGRAM_SIZE]);
         for (Vegetable vegetable : Vegetable.values()) {
-            int count = cardCounter.countVegetables(hand, vegetable);
+            int count = cardCounter.countVegetables(histogram, vegetable);
             if(count > 0) {
                 handString += vegetable + ": " + count + "\t";
             }
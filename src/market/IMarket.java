@@ -13,4 +13,12 @@ public interface IMarket {
      * @return List of market piles
      */
     ArrayList<IPile> getMarketPiles();
-}
\ No newline at end of file
+
+    /**
+     * Gets a read-only snapshot of the cards on offer.
+     * Never moves cards between piles, unlike IPile.getPointCard.
+     *
+     * @return The current market snapshot
+     */
+    MarketSnapshot getSnapshot();
+}
@@ -0,0 +1,66 @@
+package market;
+
+import card.ICard;
+
+/**
+ * Read-only picture of the market: the point card on offer and the two vegetable
+ * cards of every pile (nine slots with the standard three piles), stamped with the
+ * market version it was taken at. Taking a snapshot never changes the game state.
+ */
+public class MarketSnapshot {
+    private final ICard[] pointCards;
+    private final ICard[] veggieCards;
+    private final long version;
+
+    /**
+     * Constructs a new MarketSnapshot.
+     *
+     * @param pointCards The point card on offer per pile, null if none
+     * @param veggieCards The vegetable cards, the first row of every pile followed by the second row
+     * @param version The market version the snapshot was taken at
+     */
+    public MarketSnapshot(ICard[] pointCards, ICard[] veggieCards, long version) {
+        this.pointCards = pointCards.clone();
+        this.veggieCards = veggieCards.clone();
+        this.version = version;
+    }
+
+    /**
+     * Gets the number of piles in the market.
+     *
+     * @return The pile count
+     */
+    public int getPileCount() {
+        return pointCards.length;
+    }
+
+    /**
+     * Gets the point card on offer from a pile.
+     *
+     * @param pile The pile index
+     * @return The point card, or null if none
+     */
+    public ICard getPointCard(int pile) {
+        return pointCards[pile];
+    }
+
+    /**
+     * Gets a vegetable card slot. Slots are numbered like the market letters:
+     * the first row of every pile (A, B, C) followed by the second row (D, E, F).
+     *
+     * @param slot The slot index
+     * @return The vegetable card, or null if the slot is empty
+     */
+    public ICard getVeggieCard(int slot) {
+        return veggieCards[slot];
+    }
+
+    /**
+     * Gets the market version the snapshot was taken at.
+     *
+     * @return The version
+     */
+    public long getVersion() {
+        return version;
+    }
+}
@@ -1,5 +1,6 @@
 package market;
 
+import card.ICard;
 import piles.IPile;
 import java.util.ArrayList;
 
@@ -9,6 +10,7 @@ import java.util.ArrayList;
  */
 public class SaladMarket implements IMarket {
     private ArrayList<IPile> piles;
+    private MarketSnapshot snapshot;
 
     /**
      * Constructs a new SaladMarket with the specified piles.
@@ -27,4 +29,28 @@ public class SaladMarket implements IMarket {
     public ArrayList<IPile> getMarketPiles() {
         return this.piles;
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets a read-only snapshot of the cards on offer.
+     * The snapshot is rebuilt only when a pile has changed since the last call.
+     *
+     * @return The current market snapshot
+     */
+    public MarketSnapshot getSnapshot() {
+        long version = 0;
+        for (IPile pile : piles) {
+            version += pile.getVersion();
+        }
+        if (snapshot == null || snapshot.getVersion() != version) {
+            ICard[] pointCards = new ICard[piles.size()];
+            ICard[] veggieCards = new ICard[2 * piles.size()];
+            for (int p = 0; p < piles.size(); p++) {
+                pointCards[p] = piles.get(p).peekPointCard(piles);
+                veggieCards[p] = piles.get(p).getVeggieCard(0);
+                veggieCards[piles.size() + p] = piles.get(p).getVeggieCard(1);
+            }
+            snapshot = new MarketSnapshot(pointCards, veggieCards, version);
+        }
+        return snapshot;
+    }
+}
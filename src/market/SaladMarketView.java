@@ -1,15 +1,15 @@
 package market;
 
-import card.ICard;
-import piles.IPile;
-import java.util.ArrayList;
-
 /**
  * Provides a view of the game market for display purposes.
  * Implements IMarketView interface.
  */
 public class SaladMarketView implements IMarketView {
+    private static final int COLUMN_WIDTH = 43;
+
     private IMarket market;
+    private MarketSnapshot renderedSnapshot;
+    private String rendered;
 
     /**
      * Constructs a new SaladMarketView with the specified market.
@@ -23,40 +23,66 @@ public class SaladMarketView implements IMarketView {
     /**
      * Generates a formatted string representation of the market.
      * Shows both point cards and vegetable cards with their indices.
+     * Reads a market snapshot, so printing never changes the game state, and reuses
+     * the previous text while the market is unchanged.
      *
      * @return Formatted string displaying the current market state
      */
     public String printMarket() {
-        String pileString = "Point Cards:\t";
-        ArrayList<IPile> piles = market.getMarketPiles();
+        MarketSnapshot snapshot = market.getSnapshot();
+        if (snapshot != renderedSnapshot) {
+            rendered = render(snapshot);
+            renderedSnapshot = snapshot;
+        }
+        return rendered;
+    }
+
+    /**
+     * Renders a market snapshot.
+     *
+     * @param snapshot The snapshot to render
+     * @return The market text
+     */
+    private String render(MarketSnapshot snapshot) {
+        int pileCount = snapshot.getPileCount();
+        StringBuilder pileString = new StringBuilder(2 * 3 * pileCount * (COLUMN_WIDTH + 5) + 32);
+        pileString.append("Point Cards:\t");
 
         // Display point cards
-        for (int p = 0; p < piles.size(); p++) {
-            ICard pointCard = piles.get(p).getPointCard(piles);
-            if (pointCard == null) {
-                pileString += "[" + p + "]" + String.format("%-43s", "Empty") + "\t";
-            } else {
-                pileString += "[" + p + "]" + String.format("%-43s", pointCard) + "\t";
-            }
+        for (int p = 0; p < pileCount; p++) {
+            Object pointCard = snapshot.getPointCard(p);
+            appendSlot(pileString, String.valueOf(p), pointCard == null ? "Empty" : pointCard);
         }
 
         // Display vegetable cards
-        pileString += "\nVeggie Cards:\t";
+        pileString.append("\nVeggie Cards:\t");
         char veggieCardIndex = 'A';
 
         // First row of veggies
-        for (IPile pile : piles) {
-            pileString += "[" + veggieCardIndex + "]" + String.format("%-43s", pile.getVeggieCard(0)) + "\t";
+        for (int p = 0; p < pileCount; p++) {
+            appendSlot(pileString, String.valueOf(veggieCardIndex), snapshot.getVeggieCard(p));
             veggieCardIndex++;
         }
 
         // Second row of veggies
-        pileString += "\n\t\t";
-        for (IPile pile : piles) {
-            pileString += "[" + veggieCardIndex + "]" + String.format("%-43s", pile.getVeggieCard(1)) + "\t";
+        pileString.append("\n\t\t");
+        for (int p = 0; p < pileCount; p++) {
+            appendSlot(pileString, String.valueOf(veggieCardIndex), snapshot.getVeggieCard(pileCount + p));
             veggieCardIndex++;
         }
 
-        return pileString;
+        return pileString.toString();
+    }
+
+    /**
+     * Appends one market slot, left-aligned in a fixed-width column.
+     */
+    private void appendSlot(StringBuilder pileString, String label, Object card) {
+        String text = String.valueOf(card);
+        pileString.append('[').append(label).append(']').append(text);
+        for (int pad = text.length(); pad < COLUMN_WIDTH; pad++) {
+            pileString.append(' ');
+        }
+        pileString.append('\t');
     }
-}
\ No newline at end of file
+}
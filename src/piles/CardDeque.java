@@ -0,0 +1,199 @@
+package piles;
+
+import card.ICard;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * The point card stack of a pile, stored in a circular array.
+ * Taking the top card (index 0) and taking the bottom card (last index) are O(1),
+ * where an ArrayList would shift every remaining card on remove(0).
+ * Implements the full List contract, so callers of IPile.getCards() are unaffected.
+ * An optional listener is told about every change, however the stack was modified.
+ */
+public class CardDeque extends AbstractList<ICard> implements RandomAccess {
+    private ICard[] elements;
+    private int head;
+    private int size;
+    private IPileSizeListener sizeListener;
+    private int pileIndex;
+
+    /**
+     * Constructs a new empty CardDeque.
+     */
+    public CardDeque() {
+        this(16);
+    }
+
+    /**
+     * Constructs a new empty CardDeque with room for the given number of cards.
+     *
+     * @param capacity The initial capacity
+     */
+    public CardDeque(int capacity) {
+        this.elements = new ICard[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Constructs a new CardDeque holding the given cards in order.
+     *
+     * @param cards The cards, top card first
+     */
+    public CardDeque(Collection<? extends ICard> cards) {
+        this(cards.size());
+        for (ICard card : cards) {
+            elements[size++] = card;
+        }
+    }
+
+    /**
+     * Sets the listener notified when the cards change.
+     *
+     * @param listener The listener to notify, or null to stop notifications
+     * @param pileIndex The index passed to the listener
+     */
+    public void setSizeListener(IPileSizeListener listener, int pileIndex) {
+        this.sizeListener = listener;
+        this.pileIndex = pileIndex;
+    }
+
+    /**
+     * Gets the card at the specified position, counted from the top.
+     *
+     * @param index Position of the card
+     * @return The card at that position
+     */
+    @Override
+    public ICard get(int index) {
+        checkIndex(index);
+        return elements[slot(index)];
+    }
+
+    /**
+     * Replaces the card at the specified position.
+     *
+     * @param index Position of the card
+     * @param card The new card
+     * @return The replaced card
+     */
+    @Override
+    public ICard set(int index, ICard card) {
+        checkIndex(index);
+        int slot = slot(index);
+        ICard previous = elements[slot];
+        elements[slot] = card;
+        sizeChanged();
+        return previous;
+    }
+
+    /**
+     * Gets the number of cards in the stack.
+     *
+     * @return The stack size
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Inserts a card. Inserting at the top or the bottom is O(1).
+     *
+     * @param index Position to insert at
+     * @param card The card to insert
+     */
+    @Override
+    public void add(int index, ICard card) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (size == elements.length) {
+            grow();
+        }
+        if (index < size - index) {
+            // Shift the cards above the insertion point one slot towards the head
+            head = (head - 1 + elements.length) % elements.length;
+            for (int i = 0; i < index; i++) {
+                elements[slot(i)] = elements[slot(i + 1)];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                elements[slot(i)] = elements[slot(i - 1)];
+            }
+        }
+        elements[slot(index)] = card;
+        size++;
+        modCount++;
+        sizeChanged();
+    }
+
+    /**
+     * Removes a card. Removing the top or the bottom card is O(1).
+     *
+     * @param index Position of the card to remove
+     * @return The removed card
+     */
+    @Override
+    public ICard remove(int index) {
+        checkIndex(index);
+        ICard card = elements[slot(index)];
+        if (index < size - 1 - index) {
+            // Shift the cards above the removed one one slot towards the tail
+            for (int i = index; i > 0; i--) {
+                elements[slot(i)] = elements[slot(i - 1)];
+            }
+            elements[head] = null;
+            head = (head + 1) % elements.length;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                elements[slot(i)] = elements[slot(i + 1)];
+            }
+            elements[slot(size - 1)] = null;
+        }
+        size--;
+        modCount++;
+        sizeChanged();
+        return card;
+    }
+
+    /**
+     * Removes every card.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(elements, null);
+        head = 0;
+        size = 0;
+        modCount++;
+        sizeChanged();
+    }
+
+    private void sizeChanged() {
+        if (sizeListener != null) {
+            sizeListener.sizeChanged(pileIndex, size);
+        }
+    }
+
+    private int slot(int index) {
+        int slot = head + index;
+        return slot < elements.length ? slot : slot - elements.length;
+    }
+
+    private void grow() {
+        ICard[] grown = new ICard[elements.length * 2];
+        for (int i = 0; i < size; i++) {
+            grown[i] = elements[slot(i)];
+        }
+        elements = grown;
+        head = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
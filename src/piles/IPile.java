@@ -2,6 +2,7 @@ package piles;
 
 import card.ICard;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Represents a pile of game cards with both point cards and vegetable cards.
@@ -17,12 +18,28 @@ public interface IPile {
      */
     ICard getPointCard(ArrayList<IPile> piles);
 
+    /**
+     * Gets the point card that getPointCard would return, without moving any card.
+     * If this pile is empty, that is the bottom card of the largest other pile.
+     *
+     * @param piles All available piles for card replenishment
+     * @return The point card on offer, or null if no cards available
+     */
+    ICard peekPointCard(ArrayList<IPile> piles);
+
+    /**
+     * Gets a counter that changes whenever the cards of the pile change.
+     *
+     * @return The pile version
+     */
+    long getVersion();
+
     /**
      * Gets all cards in the point card stack
      *
-     * @return List of point cards in the pile
+     * @return List of point cards in the pile, top card first
      */
-    ArrayList<ICard> getCards();
+    List<ICard> getCards();
 
     /**
      * Gets a specific vegetable card from the face-up market.
@@ -0,0 +1,14 @@
+package piles;
+
+/**
+ * Receives notifications when the point cards of a pile change.
+ */
+public interface IPileSizeListener {
+    /**
+     * Called after cards were added to, removed from or replaced in a pile's card stack.
+     *
+     * @param pileIndex The index the listener was registered with
+     * @param size The new number of cards in the stack
+     */
+    void sizeChanged(int pileIndex, int size);
+}
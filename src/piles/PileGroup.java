@@ -0,0 +1,103 @@
+package piles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Owns every pile of a game and finds the largest other pile to refill an empty pile from.
+ * Pile sizes are kept in a max segment tree that is updated whenever a pile's card
+ * stack changes, so the largest other pile is found in O(log n) instead of scanning
+ * every pile. Ties go to the lowest pile index, like the original scan.
+ */
+public class PileGroup implements IPileSizeListener {
+    private final ArrayList<IPile> piles;
+    private final int leaves;
+    private final int[] maxSize;
+    private final int[] maxIndex;
+
+    /**
+     * Constructs a new PileGroup owning the given piles.
+     *
+     * @param piles The piles of the game, in market order
+     */
+    public PileGroup(List<SaladPile> piles) {
+        this.piles = new ArrayList<>(piles);
+        int leaves = 1;
+        while (leaves < piles.size()) {
+            leaves *= 2;
+        }
+        this.leaves = leaves;
+        this.maxSize = new int[2 * leaves];
+        this.maxIndex = new int[2 * leaves];
+        for (int node = 0; node < maxSize.length; node++) {
+            maxSize[node] = -1;
+            maxIndex[node] = -1;
+        }
+        for (int i = 0; i < piles.size(); i++) {
+            SaladPile pile = piles.get(i);
+            pile.joinGroup(this, i);
+            sizeChanged(i, pile.getCards().size());
+        }
+    }
+
+    /**
+     * Gets the piles of the group, in market order.
+     *
+     * @return The list of piles (the same instance on every call)
+     */
+    public ArrayList<IPile> getPiles() {
+        return piles;
+    }
+
+    /**
+     * Gets the number of piles.
+     *
+     * @return The pile count
+     */
+    public int size() {
+        return piles.size();
+    }
+
+    /**
+     * Updates the size of one pile in the tree.
+     *
+     * @param pileIndex The index of the pile
+     * @param size The new number of point cards in the pile
+     */
+    @Override
+    public void sizeChanged(int pileIndex, int size) {
+        int node = leaves + pileIndex;
+        maxSize[node] = size;
+        maxIndex[node] = pileIndex;
+        for (node /= 2; node > 0; node /= 2) {
+            int left = 2 * node;
+            int right = left + 1;
+            // On ties the left child holds the lower pile index
+            int larger = maxSize[right] > maxSize[left] ? right : left;
+            maxSize[node] = maxSize[larger];
+            maxIndex[node] = maxIndex[larger];
+        }
+    }
+
+    /**
+     * Finds the pile with the most point cards, leaving one pile out.
+     *
+     * @param excluded The index of the pile to leave out
+     * @return The index of the largest other pile, or -1 if there is none
+     */
+    public int largestOtherPile(int excluded) {
+        int best = -1;
+        int bestSize = -1;
+        // Walk up from the excluded leaf, looking at every sibling subtree; the left
+        // siblings hold lower indices and win ties
+        for (int node = leaves + excluded; node > 1; node /= 2) {
+            int sibling = node ^ 1;
+            int size = maxSize[sibling];
+            if (size > bestSize || (size == bestSize && size >= 0 && maxIndex[sibling] < best)) {
+                best = maxIndex[sibling];
+                bestSize = size;
+            }
+        }
+        return bestSize < 0 ? -1 : best;
+    }
+}
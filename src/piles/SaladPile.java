@@ -2,29 +2,69 @@ package piles;
 
 import card.ICard;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Represents a pile of cards in the PointSalad game.
  * Implements IPile interface.
  */
-public class SaladPile implements IPile {
-    private ArrayList<ICard> cards = new ArrayList<ICard>();
+public class SaladPile implements IPile, IPileSizeListener {
+    private CardDeque cards;
     private ICard[] veggieCards = new ICard[2];
+    private PileGroup group;
+    private int groupIndex;
+    private long version;
 
     /**
      * Constructs a new SaladPile with the given cards.
      * The first two cards become face-up vegetable cards.
+     * A CardDeque is used as the pile's stack directly, any other list is copied.
      *
      * @param cards The initial set of cards for this pile
      */
-    public SaladPile(ArrayList<ICard> cards) {
-        this.cards = cards;
-        this.veggieCards[0] = cards.remove(0);
-        this.veggieCards[1] = cards.remove(0);
+    public SaladPile(List<ICard> cards) {
+        this.cards = cards instanceof CardDeque ? (CardDeque) cards : new CardDeque(cards);
+        this.cards.setSizeListener(this, 0);
+        this.veggieCards[0] = this.cards.remove(0);
+        this.veggieCards[1] = this.cards.remove(0);
         this.veggieCards[0].setCriteriaSideUp(false);
         this.veggieCards[1].setCriteriaSideUp(false);
     }
 
+    /**
+     * Makes this pile a member of a pile group, which then tracks its size.
+     *
+     * @param group The group owning this pile
+     * @param index The index of this pile in the group
+     */
+    void joinGroup(PileGroup group, int index) {
+        this.group = group;
+        this.groupIndex = index;
+    }
+
+    /**
+     * Bumps the version when the card stack changes and keeps the pile group up to date.
+     *
+     * @param pileIndex Unused, the stack belongs to this pile
+     * @param size The new number of cards in the stack
+     */
+    @Override
+    public void sizeChanged(int pileIndex, int size) {
+        version++;
+        if (group != null) {
+            group.sizeChanged(groupIndex, size);
+        }
+    }
+
+    /**
+     * Gets a counter that changes whenever the point cards or vegetable cards change.
+     *
+     * @return The pile version
+     */
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * Gets the top point card from this pile.
      * If pile is empty, takes a card from the largest other pile.
@@ -33,34 +73,37 @@ public class SaladPile implements IPile {
      * @return The top point card, or null if none available
      */
     public ICard getPointCard(ArrayList<IPile> piles) {
-        if (cards.isEmpty()) {
-            // Find largest other pile
-            int biggestPileIndex = -1;
-            int biggestSize = 0;
-
-            for (int i = 0; i < piles.size(); i++) {
-                if (i != piles.indexOf(this) && piles.get(i).getCards().size() > biggestSize) {
-                    biggestSize = piles.get(i).getCards().size();
-                    biggestPileIndex = i;
-                }
-            }
-
-            if (biggestSize > 1) {
-                cards.add(piles.get(biggestPileIndex).getCards().remove(biggestSize - 1));
-            } else {
-                return null;
-            }
+        if (cards.isEmpty() && !refill(piles)) {
+            return null;
         }
         return cards.get(0);
     }
 
+    /**
+     * Gets the point card that getPointCard would return, without moving any card.
+     *
+     * @param piles All game piles for potential card borrowing
+     * @return The point card on offer, or null if none available
+     */
+    public ICard peekPointCard(ArrayList<IPile> piles) {
+        if (!cards.isEmpty()) {
+            return cards.get(0);
+        }
+        int source = largestOtherPile(piles);
+        if (source < 0) {
+            return null;
+        }
+        List<ICard> sourceCards = piles.get(source).getCards();
+        return sourceCards.get(sourceCards.size() - 1);
+    }
+
     /**
      * Gets all cards in this pile (excluding face-up vegetable cards).
      *
-     * @return ArrayList of ICard objects
+     * @return List of ICard objects, top card first
      */
     @Override
-    public ArrayList<ICard> getCards() {
+    public List<ICard> getCards() {
         return this.cards;
     }
 
@@ -95,23 +138,8 @@ public class SaladPile implements IPile {
      * @return The removed point card, or null if none available
      */
     public ICard buyPointCard(ArrayList<IPile> piles) {
-        if (cards.isEmpty()) {
-            int biggestPileIndex = 0;
-            int biggestSize = 0;
-
-            for (int i = 0; i < piles.size(); i++) {
-                if (i != piles.indexOf(this) && piles.get(i).getCards().size() > biggestSize) {
-                    biggestSize = piles.get(i).getCards().size();
-                    biggestPileIndex = i;
-                }
-            }
-
-            if (biggestSize > 1) {
-                cards.add(piles.get(biggestPileIndex).getCards().remove(
-                        piles.get(biggestPileIndex).getCards().size() - 1));
-            } else {
-                return null;
-            }
+        if (cards.isEmpty() && !refill(piles)) {
+            return null;
         }
         return cards.remove(0);
     }
@@ -126,24 +154,9 @@ public class SaladPile implements IPile {
      */
     public ICard buyVeggieCard(int index, ArrayList<IPile> piles) {
         ICard aCard = veggieCards[index];
-        if(cards.size() <= 1) {
-            int biggestPileIndex = 0;
-            int biggestSize = 0;
-
-            for (int i = 0; i < piles.size(); i++) {
-                if (i != piles.indexOf(this) && piles.get(i).getCards().size() > biggestSize) {
-                    biggestSize = piles.get(i).getCards().size();
-                    biggestPileIndex = i;
-                }
-            }
-            if(biggestSize > 1) {
-                cards.add(piles.get(biggestPileIndex).getCards().remove(
-                        piles.get(biggestPileIndex).getCards().size()-1));
-                veggieCards[index] = cards.remove(0);
-                veggieCards[index].setCriteriaSideUp(false);
-            } else {
-                veggieCards[index] = null;
-            }
+        version++;
+        if (cards.size() <= 1 && !refill(piles)) {
+            veggieCards[index] = null;
         } else {
             veggieCards[index] = cards.remove(0);
             veggieCards[index].setCriteriaSideUp(false);
@@ -151,4 +164,48 @@ public class SaladPile implements IPile {
 
         return aCard;
     }
-}
\ No newline at end of file
+
+    /**
+     * Moves the bottom card of the largest other pile (if it has more than one card) to this pile.
+     *
+     * @param piles All game piles for potential card borrowing
+     * @return true if a card was moved
+     */
+    private boolean refill(ArrayList<IPile> piles) {
+        int source = largestOtherPile(piles);
+        if (source < 0) {
+            return false;
+        }
+        List<ICard> sourceCards = piles.get(source).getCards();
+        cards.add(sourceCards.remove(sourceCards.size() - 1));
+        return true;
+    }
+
+    /**
+     * Finds the largest other pile that may give away its bottom card (it has more than one).
+     * Uses the pile group when the piles are the group's own, otherwise scans the given piles.
+     *
+     * @param piles All game piles
+     * @return The index of the pile, or -1 if no pile can give a card
+     */
+    private int largestOtherPile(ArrayList<IPile> piles) {
+        int biggestPileIndex;
+        if (group != null && piles == group.getPiles()) {
+            biggestPileIndex = group.largestOtherPile(groupIndex);
+        } else {
+            biggestPileIndex = -1;
+            int biggestSize = 0;
+            for (int i = 0; i < piles.size(); i++) {
+                IPile pile = piles.get(i);
+                if (pile != this && pile.getCards().size() > biggestSize) {
+                    biggestSize = pile.getCards().size();
+                    biggestPileIndex = i;
+                }
+            }
+        }
+        if (biggestPileIndex < 0 || piles.get(biggestPileIndex).getCards().size() <= 1) {
+            return -1;
+        }
+        return biggestPileIndex;
+    }
+}
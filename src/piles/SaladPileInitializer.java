@@ -1,23 +1,25 @@
 package piles;
 
+import card.CardCatalog;
 import card.ICard;
-import card.SaladCard;
 import card.Vegetable;
-import org.json.JSONArray;
-import org.json.JSONObject;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Scanner;
+import java.util.SplittableRandom;
 
 /**
  * Initializes and manages the game piles at the start of a PointSalad game.
  * Implements IPileInitializer interface.
  */
 public class SaladPileInitializer implements IPileInitializer {
-    private ArrayList<IPile> piles = new ArrayList<>();
+    /**
+     * Number of piles in the market of a standard game.
+     */
+    public static final int DEFAULT_PILES = 3;
+
+    private PileGroup pileGroup;
+    private final SplittableRandom random;
+    private int cardsPerVeggie;
 
     /**
      * Constructs a new SaladPileInitializer for the specified number of players.
@@ -26,85 +28,43 @@ public class SaladPileInitializer implements IPileInitializer {
      * @throws IOException if the card manifest can't be loaded
      */
     public SaladPileInitializer(int numberOfPlayers) throws IOException {
-        JSONArray cardsArray = loadCards();
-        ArrayList<ArrayList<ICard>> decks = createDecks(cardsArray);
-        ArrayList<ICard> combinedDeck = combineDecks(decks, numberOfPlayers);
-        divideIntoPiles(combinedDeck);
+        this(numberOfPlayers, CardCatalog.getDefault());
     }
 
     /**
-     * Loads card data from the PointSaladManifest.json file.
+     * Constructs a new SaladPileInitializer dealing from the given card catalog.
      *
-     * @return JSONArray containing all card data
-     * @throws IOException if the file can't be read
+     * @param numberOfPlayers The number of players in the game
+     * @param catalog The catalog of cards to deal from
      */
-    private JSONArray loadCards() throws IOException {
-        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("PointSaladManifest.json")) {
-            if (inputStream == null) {
-                throw new IOException("PointSaladManifest.json not found in the classpath.");
-            }
-
-            Scanner scanner = new Scanner(inputStream, "UTF-8").useDelimiter("\\A");
-            String jsonString = scanner.hasNext() ? scanner.next() : "";
-            JSONObject jsonObject = new JSONObject(jsonString);
-            return jsonObject.getJSONArray("cards");
-        } catch (IOException e) {
-            throw new IOException("Couldn't load PointSaladManifest.json", e);
-        }
+    public SaladPileInitializer(int numberOfPlayers, CardCatalog catalog) {
+        this(numberOfPlayers, catalog, DEFAULT_PILES, new SplittableRandom());
     }
 
     /**
-     * Creates separate decks for each vegetable type from the JSON data.
+     * Constructs a new SaladPileInitializer dealing into the given number of piles.
      *
-     * @param cardsArray JSONArray containing card data
-     * @return ArrayList of vegetable-specific decks
+     * @param numberOfPlayers The number of players in the game
+     * @param catalog The catalog of cards to deal from
+     * @param numberOfPiles The number of piles in the market
+     * @param random The random number stream used to shuffle, so a seed reproduces the deal
      */
-    private ArrayList<ArrayList<ICard>> createDecks(JSONArray cardsArray) {
-        ArrayList<ArrayList<ICard>> decks = new ArrayList<>();
-        // Initialize decks for each vegetable type
-        ArrayList<ICard> deckPepper = new ArrayList<>();
-        ArrayList<ICard> deckLettuce = new ArrayList<>();
-        ArrayList<ICard> deckCarrot = new ArrayList<>();
-        ArrayList<ICard> deckCabbage = new ArrayList<>();
-        ArrayList<ICard> deckOnion = new ArrayList<>();
-        ArrayList<ICard> deckTomato = new ArrayList<>();
-
-        decks.add(deckPepper);
-        decks.add(deckLettuce);
-        decks.add(deckCarrot);
-        decks.add(deckCabbage);
-        decks.add(deckOnion);
-        decks.add(deckTomato);
-
-        // Populate each deck
-        for (int i = 0; i < cardsArray.length(); i++) {
-            JSONObject cardJson = cardsArray.getJSONObject(i);
-            JSONObject criteriaObj = cardJson.getJSONObject("criteria");
-
-            deckPepper.add(new SaladCard(Vegetable.PEPPER, criteriaObj.getString("PEPPER")));
-            deckLettuce.add(new SaladCard(Vegetable.LETTUCE, criteriaObj.getString("LETTUCE")));
-            deckCarrot.add(new SaladCard(Vegetable.CARROT, criteriaObj.getString("CARROT")));
-            deckCabbage.add(new SaladCard(Vegetable.CABBAGE, criteriaObj.getString("CABBAGE")));
-            deckOnion.add(new SaladCard(Vegetable.ONION, criteriaObj.getString("ONION")));
-            deckTomato.add(new SaladCard(Vegetable.TOMATO, criteriaObj.getString("TOMATO")));
+    public SaladPileInitializer(int numberOfPlayers, CardCatalog catalog, int numberOfPiles, SplittableRandom random) {
+        if (numberOfPiles < 1) {
+            throw new IllegalArgumentException("Invalid number of piles");
         }
-
-        // Shuffle each deck
-        for(ArrayList<ICard> deck : decks) {
-            shuffleDeck(deck);
-        }
-
-        return decks;
+        this.random = random;
+        this.cardsPerVeggie = cardsPerVeggie(numberOfPlayers);
+        dealPiles(catalog, cardsPerVeggie, numberOfPiles);
     }
 
     /**
-     * Combines vegetable decks into a single deck based on player count.
+     * Gets how many cards of each vegetable are dealt for a player count.
      *
-     * @param decks The vegetable-specific decks
      * @param numberOfPlayers The number of players in the game
-     * @return Combined and shuffled deck
+     * @return Number of cards per vegetable type
      */
-    private ArrayList<ICard> combineDecks(ArrayList<ArrayList<ICard>> decks, int numberOfPlayers) {
+    private int cardsPerVeggie(int numberOfPlayers) {
         int cardsPerVeggie;
         switch (numberOfPlayers) {
             case 2: cardsPerVeggie = 6; break;
@@ -114,59 +74,95 @@ public class SaladPileInitializer implements IPileInitializer {
             case 6: cardsPerVeggie = 18; break;
             default: throw new IllegalArgumentException("Invalid number of players");
         }
-
-        ArrayList<ICard> combinedDeck = new ArrayList<>();
-        System.out.println("Number of players: " + numberOfPlayers + " Number of cards " + cardsPerVeggie);
-        for (int i = 0; i < cardsPerVeggie; i++) {
-            for (ArrayList<ICard> veggieDeck : decks) {
-                if (!veggieDeck.isEmpty()) {
-                    combinedDeck.add(veggieDeck.remove(0));
-                }
-            }
-        }
-        shuffleDeck(combinedDeck);
-        return combinedDeck;
+        return cardsPerVeggie;
     }
 
     /**
-     * Divides the combined deck into three roughly equal piles.
+     * Deals the piles in one pass over the dealt cards.
+     * For every vegetable a partial Fisher-Yates shuffle of the manifest entries picks the
+     * dealt cards; its swaps are undone afterwards, so each vegetable costs only as much as
+     * the cards it deals. Each picked card is placed with an inside-out Fisher-Yates step
+     * straight into the piles, reading the combined deck position k as card k / piles of
+     * pile k % piles, so only dealt cards are ever created or moved. The piles are owned
+     * by one pile group.
      *
-     * @param deck The combined deck to divide
+     * @param catalog The catalog of cards to deal from
+     * @param cardsPerVeggie Number of cards to deal per vegetable type
+     * @param numberOfPiles The number of piles to create
      */
-    private void divideIntoPiles(ArrayList<ICard> deck) {
-        int numberOfPiles = 3;
-        ArrayList<ArrayList<ICard>> listOfPiles = new ArrayList<>();
-
-        for (int i = 0; i < numberOfPiles; i++) {
-            listOfPiles.add(new ArrayList<>());
+    private void dealPiles(CardCatalog catalog, int cardsPerVeggie, int numberOfPiles) {
+        int perVeggie = Math.min(cardsPerVeggie, catalog.size());
+        int[] entries = new int[catalog.size()];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = i;
         }
-
-        for (int i = 0; i < deck.size(); i++) {
-            int pileIndex = i % numberOfPiles;
-            listOfPiles.get(pileIndex).add(deck.get(i));
+        int[] picks = new int[perVeggie];
+        CardDeque[] pileCards = new CardDeque[numberOfPiles];
+        for (int p = 0; p < numberOfPiles; p++) {
+            pileCards[p] = new CardDeque(perVeggie * Vegetable.values().length / numberOfPiles + 1);
+        }
+        int dealt = 0;
+
+        for (Vegetable vegetable : Vegetable.values()) {
+            for (int i = 0; i < perVeggie; i++) {
+                // Partial Fisher-Yates: pick a random entry among those not dealt yet
+                int pick = i + random.nextInt(entries.length - i);
+                int entry = entries[pick];
+                entries[pick] = entries[i];
+                entries[i] = entry;
+                picks[i] = pick;
+
+                // Inside-out Fisher-Yates: put the card at a random position of the deck so far,
+                // moving the card found there to the end of the deck
+                int position = random.nextInt(dealt + 1);
+                ICard card = catalog.createCard(entry, vegetable);
+                CardDeque end = pileCards[dealt % numberOfPiles];
+                if (position == dealt) {
+                    end.add(card);
+                } else {
+                    end.add(pileCards[position % numberOfPiles].set(position / numberOfPiles, card));
+                }
+                dealt++;
+            }
+            // Undo the swaps in reverse order to restore the identity for the next vegetable
+            for (int i = perVeggie - 1; i >= 0; i--) {
+                int entry = entries[picks[i]];
+                entries[picks[i]] = entries[i];
+                entries[i] = entry;
+            }
         }
 
-        for (ArrayList<ICard> pile : listOfPiles) {
-            ArrayList<ICard> pileCopy = new ArrayList<>(pile);
-            piles.add(new SaladPile(pileCopy));
+        ArrayList<SaladPile> piles = new ArrayList<>(numberOfPiles);
+        for (int p = 0; p < numberOfPiles; p++) {
+            piles.add(new SaladPile(pileCards[p]));
         }
+        pileGroup = new PileGroup(piles);
     }
 
     /**
-     * Shuffles a deck of cards.
+     * Gets all initialized piles.
      *
-     * @param deck The deck to shuffle
+     * @return ArrayList of IPile objects
      */
-    private void shuffleDeck(ArrayList<ICard> deck) {
-        Collections.shuffle(deck);
+    public ArrayList<IPile> getPiles() {
+        return pileGroup.getPiles();
     }
 
     /**
-     * Gets all initialized piles.
+     * Gets how many cards of each vegetable were dealt.
      *
-     * @return ArrayList of IPile objects
+     * @return Number of cards per vegetable type
      */
-    public ArrayList<IPile> getPiles() {
-        return piles;
+    public int getCardsPerVeggie() {
+        return cardsPerVeggie;
+    }
+
+    /**
+     * Gets the group owning the initialized piles.
+     *
+     * @return The pile group
+     */
+    public PileGroup getPileGroup() {
+        return pileGroup;
     }
 }
\ No newline at end of file
@@ -3,8 +3,7 @@ package player;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.net.Socket;
-import java.util.ArrayList;
-import card.ICard;
+import card.IHand;
 
 /**
  * Represents a game player (human or bot) with their game state and actions.
@@ -36,7 +35,7 @@ public interface IPlayer {
      *
      * @return List of cards in the player's hand
      */
-    ArrayList<ICard> getHand();
+    IHand getHand();
 
     /**
      * Gets the player's current score.
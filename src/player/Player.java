@@ -1,10 +1,10 @@
 package player;
 
-import card.ICard;
+import card.IHand;
+import card.SaladHand;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.net.Socket;
-import java.util.ArrayList;
 import java.util.Scanner;
 
 /**
@@ -18,8 +18,8 @@ public abstract class Player implements IPlayer {
     protected Socket connection;
     protected ObjectInputStream inFromClient;
     protected ObjectOutputStream outToClient;
-    Scanner in = new Scanner(System.in);
-    protected ArrayList<ICard> hand = new ArrayList<ICard>();
+    Scanner in;
+    protected IHand hand = new SaladHand();
     protected int score = 0;
 
     /**
@@ -66,7 +66,13 @@ public abstract class Player implements IPlayer {
         if(online)
             try{word = (String) inFromClient.readObject();} catch (Exception e){}
         else
-            try {word=in.nextLine();} catch(Exception e){}
+            try {
+                if (in == null) {
+                    // Created on first use, so bots never allocate a console scanner
+                    in = new Scanner(System.in);
+                }
+                word=in.nextLine();
+            } catch(Exception e){}
         return word;
     }
 
@@ -82,9 +88,9 @@ public abstract class Player implements IPlayer {
     /**
      * Gets the player's current hand of cards.
      *
-     * @return ArrayList of ICard objects
+     * @return The player's hand
      */
-    public ArrayList<ICard> getHand() {
+    public IHand getHand() {
         return this.hand;
     }
 
@@ -0,0 +1,159 @@
+package scoring;
+
+import card.ICardCounter;
+import card.SaladCardCounter;
+
+import java.util.Arrays;
+
+/**
+ * Scores batches of hypothetical hands given as VegetableColumns.
+ * Each compiled rule is applied to the whole batch in one tight loop over primitive
+ * columns, without branches on the criteria inside the loop, so the JIT can unroll
+ * and auto-vectorize it. Scores are added to a caller-provided array.
+ */
+public class BatchScorer {
+    private final ScoringContext context = new ScoringContext(new SaladCardCounter());
+    private final int[] histogram = new int[ICardCounter.HISTOGRAM_SIZE];
+
+    /**
+     * Constructs a new BatchScorer.
+     */
+    public BatchScorer() {
+    }
+
+    /**
+     * Scores a batch where every hand holds the same criteria cards.
+     *
+     * @param rules The compiled rules of the criteria cards
+     * @param hands The vegetable counts of the hands
+     * @param out Array receiving one score per hand (overwritten)
+     */
+    public void score(IScoringRule[] rules, VegetableColumns hands, int[] out) {
+        Arrays.fill(out, 0, hands.size(), 0);
+        for (IScoringRule rule : rules) {
+            accumulate(rule, hands, out);
+        }
+    }
+
+    /**
+     * Adds the score of one compiled rule for every hand in the batch.
+     *
+     * @param rule The compiled rule to score
+     * @param hands The vegetable counts of the hands
+     * @param out Array receiving the scores, added to the existing values
+     */
+    public void accumulate(IScoringRule rule, VegetableColumns hands, int[] out) {
+        int n = hands.size();
+        if (rule instanceof CompositeRule) {
+            for (IScoringRule child : ((CompositeRule) rule).getRules()) {
+                accumulate(child, hands, out);
+            }
+        } else if (rule instanceof SlashRule) {
+            SlashRule r = (SlashRule) rule;
+            for (int t = 0; t < r.getVegetables().length; t++) {
+                int weight = r.getWeights()[t];
+                int[] column = hands.getColumn(r.getVegetables()[t]);
+                for (int i = 0; i < n; i++) {
+                    out[i] += weight * column[i];
+                }
+            }
+        } else if (rule instanceof PlusRule) {
+            accumulatePlus((PlusRule) rule, hands, out, n);
+        } else if (rule instanceof EvenOddRule) {
+            EvenOddRule r = (EvenOddRule) rule;
+            int[] column = hands.getColumn(r.getVegetable());
+            int odd = r.getOddPoints();
+            int difference = r.getEvenPoints() - odd;
+            for (int i = 0; i < n; i++) {
+                out[i] += odd + ((column[i] & 1) ^ 1) * difference;
+            }
+        } else if (rule instanceof VegetableTypeRule) {
+            VegetableTypeRule r = (VegetableTypeRule) rule;
+            int points = r.getPointsPerType();
+            for (int v = 0; v < ICardCounter.TOTAL; v++) {
+                int[] column = hands.getColumn(v);
+                if (r.isMissing()) {
+                    for (int i = 0; i < n; i++) {
+                        out[i] += column[i] == 0 ? points : 0;
+                    }
+                } else {
+                    int atLeast = r.getAtLeast();
+                    for (int i = 0; i < n; i++) {
+                        out[i] += column[i] >= atLeast ? points : 0;
+                    }
+                }
+            }
+        } else if (rule instanceof CompleteSetRule) {
+            int points = ((CompleteSetRule) rule).getPoints();
+            int[] c0 = hands.getColumn(0), c1 = hands.getColumn(1), c2 = hands.getColumn(2);
+            int[] c3 = hands.getColumn(3), c4 = hands.getColumn(4), c5 = hands.getColumn(5);
+            for (int i = 0; i < n; i++) {
+                int min = Math.min(Math.min(Math.min(c0[i], c1[i]), Math.min(c2[i], c3[i])), Math.min(c4[i], c5[i]));
+                out[i] += min > 0 ? points : 0;
+            }
+        } else if (rule instanceof MostFewestRule) {
+            accumulateMostFewest((MostFewestRule) rule, hands, out, n);
+        } else {
+            accumulateRowByRow(rule, hands, out, n);
+        }
+    }
+
+    private void accumulatePlus(PlusRule rule, VegetableColumns hands, int[] out, int n) {
+        int[] vegetables = rule.getVegetables();
+        int points = rule.getPoints();
+        int[] first = hands.getColumn(vegetables[0]);
+        if (rule.getSameKind() > 1) {
+            int sameKind = rule.getSameKind();
+            for (int i = 0; i < n; i++) {
+                out[i] += (first[i] / sameKind) * points;
+            }
+        } else if (vegetables.length == 2) {
+            int[] second = hands.getColumn(vegetables[1]);
+            for (int i = 0; i < n; i++) {
+                out[i] += Math.min(first[i], second[i]) * points;
+            }
+        } else if (vegetables.length == 3) {
+            int[] second = hands.getColumn(vegetables[1]);
+            int[] third = hands.getColumn(vegetables[2]);
+            for (int i = 0; i < n; i++) {
+                out[i] += Math.min(Math.min(first[i], second[i]), third[i]) * points;
+            }
+        } else {
+            accumulateRowByRow(rule, hands, out, n);
+        }
+    }
+
+    private void accumulateMostFewest(MostFewestRule rule, VegetableColumns hands, int[] out, int n) {
+        int points = rule.getPoints();
+        int[] column = hands.getColumn(rule.getIndex());
+        int[] opponents = rule.isMost() ? hands.getOpponentsMostColumn(rule.getIndex())
+                : rule.isFewest() ? hands.getOpponentsFewestColumn(rule.getIndex()) : null;
+        if (opponents == null) {
+            // No opponents (or an unconditional rule): every hand holds the extreme
+            for (int i = 0; i < n; i++) {
+                out[i] += points;
+            }
+        } else if (rule.isMost()) {
+            for (int i = 0; i < n; i++) {
+                out[i] += column[i] >= opponents[i] ? points : 0;
+            }
+        } else {
+            for (int i = 0; i < n; i++) {
+                out[i] += column[i] <= opponents[i] ? points : 0;
+            }
+        }
+    }
+
+    /**
+     * Fallback for rules without a columnar loop, evaluating each hand through a scoring context.
+     */
+    private void accumulateRowByRow(IScoringRule rule, VegetableColumns hands, int[] out, int n) {
+        for (int i = 0; i < n; i++) {
+            for (int v = 0; v < ICardCounter.HISTOGRAM_SIZE; v++) {
+                histogram[v] = hands.getColumn(v)[i];
+            }
+            context.reset(histogram);
+            out[i] += rule.evaluate(context);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package scoring;
+
+/**
+ * Compiled "COMPLETE SET" criteria (at least one of each vegetable).
+ */
+public class CompleteSetRule implements IScoringRule {
+    private final int id = ScoringRuleCompiler.nextRuleId();
+    private final int points;
+    private final int dependencyMask;
+
+    /**
+     * Constructs a new CompleteSetRule.
+     *
+     * @param points The points awarded for a complete set
+     */
+    public CompleteSetRule(int points) {
+        this.points = points;
+        this.dependencyMask = ScoringRuleCompiler.dependencyMask(getDependencies());
+    }
+
+    /**
+     * Awards the points if every vegetable type is present.
+     *
+     * @param context The scoring context
+     * @return The points awarded
+     */
+    public int evaluate(ScoringContext context) {
+        for (int v = 0; v < ScoringContext.TOTAL; v++) {
+            if (context.count(v) == 0) {
+                return 0;
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Gets the id of the rule.
+     *
+     * @return The rule id, unique in the JVM
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the vegetables the score depends on.
+     *
+     * @return All vegetable ordinals
+     */
+    public int[] getDependencies() {
+        return new int[] {0, 1, 2, 3, 4, 5};
+    }
+
+    /**
+     * Gets the dependencies as bits, computed once when the rule is built.
+     *
+     * @return The bits of every vegetable
+     */
+    public int getDependencyMask() {
+        return dependencyMask;
+    }
+
+    /**
+     * Gets the count from which the score no longer changes.
+     *
+     * @return 1, since only the presence of each vegetable matters
+     */
+    public int getSaturation() {
+        return 1;
+    }
+
+    /**
+     * Gets the points awarded for a complete set.
+     *
+     * @return The points awarded for a complete set
+     */
+    int getPoints() {
+        return points;
+    }
+}
@@ -0,0 +1,79 @@
+package scoring;
+
+/**
+ * Sum of several compiled rules, used when one criteria text combines scoring conditions.
+ */
+public class CompositeRule implements IScoringRule {
+    private final int id = ScoringRuleCompiler.nextRuleId();
+    private final IScoringRule[] rules;
+    private final int dependencyMask;
+
+    /**
+     * Constructs a new CompositeRule.
+     *
+     * @param rules The rules whose scores are added together
+     */
+    public CompositeRule(IScoringRule[] rules) {
+        this.rules = rules;
+        this.dependencyMask = ScoringRuleCompiler.dependencyMask(getDependencies());
+    }
+
+    /**
+     * Adds up the scores of all child rules.
+     *
+     * @param context The scoring context
+     * @return The points awarded
+     */
+    public int evaluate(ScoringContext context) {
+        int score = 0;
+        for (IScoringRule rule : rules) {
+            score += rule.evaluate(context);
+        }
+        return score;
+    }
+
+    /**
+     * Gets the id of the rule.
+     *
+     * @return The rule id, unique in the JVM
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the vegetables the score depends on.
+     *
+     * @return null, since the dependencies belong to the child rules
+     */
+    public int[] getDependencies() {
+        return null;
+    }
+
+    /**
+     * Gets the dependencies as bits, computed once when the rule is built.
+     *
+     * @return -1, since the score depends on the nested rules
+     */
+    public int getDependencyMask() {
+        return dependencyMask;
+    }
+
+    /**
+     * Gets the count from which the score no longer changes.
+     *
+     * @return Integer.MAX_VALUE, since the score keeps changing
+     */
+    public int getSaturation() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Gets the child rules whose scores are added together.
+     *
+     * @return The child rules
+     */
+    public IScoringRule[] getRules() {
+        return rules;
+    }
+}
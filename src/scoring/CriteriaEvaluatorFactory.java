@@ -0,0 +1,212 @@
+package scoring;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates one evaluator class for a set of compiled rules.
+ * Its evaluate method, written as bytecode by EvaluatorClassWriter, switches on the rule id
+ * to code specialized for each rule: the rule's vegetables, weights and points are constants
+ * in the instructions, and the parts of composite rules are added up in place. Callers
+ * therefore call a single class, whatever the rule, and the class is defined in this package
+ * through MethodHandles.Lookup.defineClass.
+ */
+public class CriteriaEvaluatorFactory {
+    private static final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    private static final AtomicInteger classes = new AtomicInteger();
+
+    private CriteriaEvaluatorFactory() {
+    }
+
+    /**
+     * Checks if a rule has a generated form, which is the case for every family the compiler builds.
+     *
+     * @param rule The compiled rule
+     * @return true if the rule and all of its parts can be generated
+     */
+    public static boolean canGenerate(IScoringRule rule) {
+        if (rule instanceof CompositeRule) {
+            for (IScoringRule child : ((CompositeRule) rule).getRules()) {
+                if (!canGenerate(child)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return rule instanceof MostFewestRule || rule instanceof VegetableTypeRule || rule instanceof CompleteSetRule
+                || rule instanceof PlusRule || rule instanceof EvenOddRule || rule instanceof SlashRule;
+    }
+
+    /**
+     * Generates the evaluator of a set of rules that can be generated.
+     * Rules are taken in id order while the method stays small enough for the JIT to compile.
+     *
+     * @param rules The compiled rules, each with canGenerate true
+     * @param generated Receives, per rule in the given order, true if the evaluator handles it
+     * @return A new evaluator giving the same results as the handled rules
+     */
+    public static ICriteriaEvaluator generate(IScoringRule[] rules, boolean[] generated) {
+        Integer[] order = new Integer[rules.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> rules[i].getId()));
+
+        // Sizes the code of each rule on its own, so the switch keeps under the compile limit
+        int size = 32 + 4 * (rules.length > 0 ? rules[order[order.length - 1]].getId() - rules[order[0]].getId() : 0);
+        int count = 0;
+        for (Integer i : order) {
+            EvaluatorClassWriter probe = new EvaluatorClassWriter("");
+            emit(rules[i], probe);
+            size += probe.getCodeLength() + 1;
+            if (size > EvaluatorClassWriter.MAX_CODE_LENGTH) {
+                break;
+            }
+            count++;
+        }
+
+        EvaluatorClassWriter writer = new EvaluatorClassWriter("scoring/GeneratedEvaluator" + classes.getAndIncrement());
+        int[] ids = new int[count];
+        int[] targets = new int[count];
+        for (int k = 0; k < count; k++) {
+            ids[k] = rules[order[k]].getId();
+            targets[k] = writer.newLabel();
+        }
+        int otherwise = writer.newLabel();
+        if (count > 0) {
+            writer.switchOnRule(ids, targets, otherwise);
+        }
+        for (int k = 0; k < count; k++) {
+            writer.mark(targets[k]);
+            emit(rules[order[k]], writer);
+            writer.returnValue();
+            generated[order[k]] = true;
+        }
+        writer.mark(otherwise);
+        writer.pushInt(0);
+        writer.returnValue();
+
+        try {
+            Class<?> type = lookup.defineClass(writer.toByteArray());
+            return (ICriteriaEvaluator) type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Couldn't generate the criteria evaluator", e);
+        }
+    }
+
+    /**
+     * Writes the instructions pushing the score of a rule.
+     *
+     * @param rule The compiled rule
+     * @param writer The class being written
+     */
+    private static void emit(IScoringRule rule, EvaluatorClassWriter writer) {
+        if (rule instanceof CompositeRule) {
+            IScoringRule[] rules = ((CompositeRule) rule).getRules();
+            if (rules.length == 0) {
+                writer.pushInt(0);
+            }
+            for (int i = 0; i < rules.length; i++) {
+                emit(rules[i], writer);
+                if (i > 0) {
+                    writer.op(EvaluatorClassWriter.IADD);
+                }
+            }
+        } else if (rule instanceof MostFewestRule) {
+            MostFewestRule r = (MostFewestRule) rule;
+            if (!r.isMost() && !r.isFewest()) {
+                writer.pushInt(r.getPoints());
+            } else {
+                writer.test(r.isMost() ? "isMost" : "isFewest", r.getIndex());
+                choose(writer, EvaluatorClassWriter.IFEQ, r.getPoints(), 0);
+            }
+        } else if (rule instanceof VegetableTypeRule) {
+            VegetableTypeRule r = (VegetableTypeRule) rule;
+            writer.pushInt(0);
+            for (int v = 0; v < ScoringContext.TOTAL; v++) {
+                int skip = writer.newLabel();
+                writer.count(v);
+                if (r.isMissing()) {
+                    writer.jump(EvaluatorClassWriter.IFNE, skip);
+                } else {
+                    writer.pushInt(r.getAtLeast());
+                    writer.jump(EvaluatorClassWriter.IF_ICMPLT, skip);
+                }
+                writer.pushInt(1);
+                writer.op(EvaluatorClassWriter.IADD);
+                writer.mark(skip);
+            }
+            writer.pushInt(r.getPointsPerType());
+            writer.op(EvaluatorClassWriter.IMUL);
+        } else if (rule instanceof CompleteSetRule) {
+            int missing = writer.newLabel();
+            int end = writer.newLabel();
+            for (int v = 0; v < ScoringContext.TOTAL; v++) {
+                writer.count(v);
+                writer.jump(EvaluatorClassWriter.IFEQ, missing);
+            }
+            writer.pushInt(((CompleteSetRule) rule).getPoints());
+            writer.jump(EvaluatorClassWriter.GOTO, end);
+            writer.mark(missing);
+            writer.pushInt(0);
+            writer.mark(end);
+        } else if (rule instanceof PlusRule) {
+            PlusRule r = (PlusRule) rule;
+            int[] v = r.getVegetables();
+            writer.count(v[0]);
+            if (r.getSameKind() > 1) {
+                writer.pushInt(r.getSameKind());
+                writer.op(EvaluatorClassWriter.IDIV);
+            } else {
+                for (int i = 1; i < v.length; i++) {
+                    writer.count(v[i]);
+                    writer.min();
+                }
+            }
+            writer.pushInt(r.getPoints());
+            writer.op(EvaluatorClassWriter.IMUL);
+        } else if (rule instanceof EvenOddRule) {
+            EvenOddRule r = (EvenOddRule) rule;
+            writer.count(r.getVegetable());
+            writer.pushInt(2);
+            writer.op(EvaluatorClassWriter.IREM);
+            choose(writer, EvaluatorClassWriter.IFNE, r.getEvenPoints(), r.getOddPoints());
+        } else if (rule instanceof SlashRule) {
+            SlashRule r = (SlashRule) rule;
+            int[] w = r.getWeights();
+            int[] v = r.getVegetables();
+            if (v.length == 0) {
+                writer.pushInt(0);
+            }
+            for (int i = 0; i < v.length; i++) {
+                writer.pushInt(w[i]);
+                writer.count(v[i]);
+                writer.op(EvaluatorClassWriter.IMUL);
+                if (i > 0) {
+                    writer.op(EvaluatorClassWriter.IADD);
+                }
+            }
+        }
+    }
+
+    /**
+     * Pushes one of two constants, depending on the int on top of the stack.
+     *
+     * @param writer The class being written
+     * @param opcode The jump taken to the second constant
+     * @param first The constant pushed if the jump isn't taken
+     * @param second The constant pushed if the jump is taken
+     */
+    private static void choose(EvaluatorClassWriter writer, int opcode, int first, int second) {
+        int otherwise = writer.newLabel();
+        int end = writer.newLabel();
+        writer.jump(opcode, otherwise);
+        writer.pushInt(first);
+        writer.jump(EvaluatorClassWriter.GOTO, end);
+        writer.mark(otherwise);
+        writer.pushInt(second);
+        writer.mark(end);
+    }
+}
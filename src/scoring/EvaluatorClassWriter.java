@@ -0,0 +1,362 @@
+package scoring;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Writes the class file of a generated criteria evaluator: a final class in this package
+ * implementing ICriteriaEvaluator, whose evaluate(rule, context) method is assembled
+ * instruction by instruction.
+ * The class file uses the Java 5 format, which is verified without stack map frames,
+ * so branches only need their targets patched in.
+ */
+final class EvaluatorClassWriter {
+    static final int IADD = 0x60;
+    static final int IMUL = 0x68;
+    static final int IDIV = 0x6c;
+    static final int IREM = 0x70;
+    static final int IFEQ = 0x99;
+    static final int IFNE = 0x9a;
+    static final int IF_ICMPLT = 0xa1;
+    static final int GOTO = 0xa7;
+
+    /**
+     * Largest method the JIT compiles, in bytes of bytecode.
+     */
+    static final int MAX_CODE_LENGTH = 8000;
+
+    private static final int CLASS_VERSION = 49;
+    private static final String CONTEXT = "scoring/ScoringContext";
+
+    private final String name;
+    private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+    private final DataOutputStream pool = new DataOutputStream(poolBytes);
+    private final HashMap<String, Integer> poolIndex = new HashMap<>();
+    private int poolCount = 1;
+
+    private byte[] code = new byte[64];
+    private int length;
+    private int depth;
+    private int maxDepth;
+    private final ArrayList<int[]> fixups = new ArrayList<>();
+    private int[] labels = new int[8];
+    private int[] labelDepths = new int[8];
+    private int labelCount;
+
+    /**
+     * Constructs a new writer for a class with the given name.
+     *
+     * @param name The internal name of the class, in this package
+     */
+    EvaluatorClassWriter(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Keeps the context's counts in a local and jumps to the code of the rule id passed
+     * to evaluate, with an empty stack.
+     *
+     * @param ids The rule ids with code, in ascending order
+     * @param targets The label of the code of each id
+     * @param otherwise The label jumped to for every other id
+     */
+    void switchOnRule(int[] ids, int[] targets, int otherwise) {
+        emit(0x2c);
+        emit(0xb6);
+        emitShort(methodRef(CONTEXT, "getCounts", "()[I"));
+        emit(0x4e);
+        grow(1);
+        grow(-1);
+        emit(0x1b);
+        grow(1);
+        int opcode = length;
+        emit(0xaa);
+        while (length % 4 != 0) {
+            emit(0);
+        }
+        int low = ids[0];
+        int high = ids[ids.length - 1];
+        emitOffset(opcode, otherwise);
+        emitInt(low);
+        emitInt(high);
+        for (int id = low, i = 0; id <= high; id++) {
+            emitOffset(opcode, ids[i] == id ? targets[i++] : otherwise);
+        }
+        grow(-1);
+        labelDepths[otherwise] = depth;
+        for (int target : targets) {
+            labelDepths[target] = depth;
+        }
+    }
+
+    /**
+     * Pushes an int constant with the shortest instruction for it.
+     *
+     * @param value The constant
+     */
+    void pushInt(int value) {
+        if (value >= -1 && value <= 5) {
+            emit(0x03 + value);
+        } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            emit(0x10);
+            emit(value);
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            emit(0x11);
+            emitShort(value);
+        } else {
+            emit(0x13);
+            emitShort(constant("I" + value, 3, value, 4));
+        }
+        grow(1);
+    }
+
+    /**
+     * Pushes context.count(index), read from the counts kept by switchOnRule.
+     *
+     * @param index The vegetable ordinal, or ScoringContext.TOTAL
+     */
+    void count(int index) {
+        emit(0x2d);
+        grow(1);
+        pushInt(index);
+        emit(0x2e);
+        grow(-1);
+    }
+
+    /**
+     * Pushes the result of one of the context's boolean tests, such as isMost(index).
+     *
+     * @param method The name of the test
+     * @param index The vegetable ordinal, or ScoringContext.TOTAL
+     */
+    void test(String method, int index) {
+        emit(0x2c);
+        grow(1);
+        pushInt(index);
+        emit(0xb6);
+        emitShort(methodRef(CONTEXT, method, "(I)Z"));
+        grow(-1);
+    }
+
+    /**
+     * Replaces the two ints on top of the stack with their minimum.
+     */
+    void min() {
+        emit(0xb8);
+        emitShort(methodRef("java/lang/Math", "min", "(II)I"));
+        grow(-1);
+    }
+
+    /**
+     * Applies an int arithmetic instruction to the two ints on top of the stack.
+     *
+     * @param opcode IADD, IMUL, IDIV or IREM
+     */
+    void op(int opcode) {
+        emit(opcode);
+        grow(-1);
+    }
+
+    /**
+     * Creates a label to jump to, placed later with mark.
+     *
+     * @return The label
+     */
+    int newLabel() {
+        if (labelCount == labels.length) {
+            labels = Arrays.copyOf(labels, labelCount * 2);
+            labelDepths = Arrays.copyOf(labelDepths, labelCount * 2);
+        }
+        labels[labelCount] = -1;
+        labelDepths[labelCount] = -1;
+        return labelCount++;
+    }
+
+    /**
+     * Jumps to a label, conditionally on the int(s) on top of the stack or always.
+     *
+     * @param opcode IFEQ, IFNE, IF_ICMPLT or GOTO
+     * @param label The label to jump to
+     */
+    void jump(int opcode, int label) {
+        grow(opcode == GOTO ? 0 : opcode == IF_ICMPLT ? -2 : -1);
+        fixups.add(new int[]{length + 1, label, length, 2});
+        emit(opcode);
+        emitShort(0);
+        labelDepths[label] = depth;
+    }
+
+    /**
+     * Places a label at the next instruction, with the stack depth of the jumps to it.
+     *
+     * @param label The label to place
+     */
+    void mark(int label) {
+        labels[label] = length;
+        if (labelDepths[label] >= 0) {
+            depth = labelDepths[label];
+        }
+    }
+
+    /**
+     * Gets the length of the code written so far.
+     *
+     * @return The number of bytes of bytecode
+     */
+    int getCodeLength() {
+        return length;
+    }
+
+    /**
+     * Returns the int on top of the stack from evaluate.
+     */
+    void returnValue() {
+        emit(0xac);
+        grow(-1);
+    }
+
+    /**
+     * Assembles the class file.
+     *
+     * @return The class file bytes
+     */
+    byte[] toByteArray() {
+        for (int[] fixup : fixups) {
+            int offset = labels[fixup[1]] - fixup[2];
+            for (int b = 0; b < fixup[3]; b++) {
+                code[fixup[0] + b] = (byte) (offset >> (8 * (fixup[3] - 1 - b)));
+            }
+        }
+        int thisClass = classRef(name);
+        int superClass = classRef("java/lang/Object");
+        int evaluatorInterface = classRef("scoring/ICriteriaEvaluator");
+        int superInit = methodRef("java/lang/Object", "<init>", "()V");
+        int init = utf8("<init>");
+        int voidType = utf8("()V");
+        int evaluate = utf8("evaluate");
+        int evaluateType = utf8("(IL" + CONTEXT + ";)I");
+        int codeAttribute = utf8("Code");
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(CLASS_VERSION);
+            out.writeShort(poolCount);
+            pool.flush();
+            poolBytes.writeTo(out);
+            out.writeShort(0x0031);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(evaluatorInterface);
+            out.writeShort(0);
+            out.writeShort(2);
+
+            byte[] initCode = {0x2a, (byte) 0xb7, (byte) (superInit >> 8), (byte) superInit, (byte) 0xb1};
+            writeMethod(out, init, voidType, codeAttribute, 1, 1, initCode, initCode.length);
+            writeMethod(out, evaluate, evaluateType, codeAttribute, maxDepth, 4, code, length);
+            out.writeShort(0);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeMethod(DataOutputStream out, int name, int type, int codeAttribute, int maxStack,
+                                    int maxLocals, byte[] code, int length) throws IOException {
+        out.writeShort(0x0001);
+        out.writeShort(name);
+        out.writeShort(type);
+        out.writeShort(1);
+        out.writeShort(codeAttribute);
+        out.writeInt(12 + length);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(length);
+        out.write(code, 0, length);
+        out.writeShort(0);
+        out.writeShort(0);
+    }
+
+    private void grow(int change) {
+        depth += change;
+        maxDepth = Math.max(maxDepth, depth);
+    }
+
+    private void emit(int value) {
+        if (length == code.length) {
+            code = Arrays.copyOf(code, length * 2);
+        }
+        code[length++] = (byte) value;
+    }
+
+    private void emitShort(int value) {
+        emit(value >> 8);
+        emit(value);
+    }
+
+    private void emitInt(int value) {
+        emitShort(value >> 16);
+        emitShort(value);
+    }
+
+    private void emitOffset(int opcode, int label) {
+        fixups.add(new int[]{length, label, opcode, 4});
+        emitInt(0);
+    }
+
+    private int utf8(String text) {
+        Integer index = poolIndex.get("U" + text);
+        if (index != null) {
+            return index;
+        }
+        try {
+            pool.writeByte(1);
+            pool.writeUTF(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        poolIndex.put("U" + text, poolCount);
+        return poolCount++;
+    }
+
+    private int classRef(String className) {
+        return constant("C" + className, 7, utf8(className), 2);
+    }
+
+    private int methodRef(String owner, String method, String type) {
+        int ownerClass = classRef(owner);
+        int nameAndType = constant("N" + method + type, 12, (utf8(method) << 16) | utf8(type), 4);
+        return constant("M" + owner + "." + method + type, 10, (ownerClass << 16) | nameAndType, 4);
+    }
+
+    /**
+     * Adds a constant whose body is a short, an int, or two shorts packed into an int.
+     */
+    private int constant(String key, int tag, int body, int size) {
+        Integer index = poolIndex.get(key);
+        if (index != null) {
+            return index;
+        }
+        try {
+            pool.writeByte(tag);
+            if (size == 2) {
+                pool.writeShort(body);
+            } else {
+                pool.writeInt(body);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        poolIndex.put(key, poolCount);
+        return poolCount++;
+    }
+}
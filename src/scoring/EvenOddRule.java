@@ -0,0 +1,99 @@
+package scoring;
+
+/**
+ * Compiled "EVEN" / "ODD" criteria for a single vegetable.
+ */
+public class EvenOddRule implements IScoringRule {
+    private final int id = ScoringRuleCompiler.nextRuleId();
+    private final int vegetable;
+    private final int evenPoints;
+    private final int oddPoints;
+    private final int dependencyMask;
+
+    /**
+     * Constructs a new EvenOddRule.
+     *
+     * @param vegetable The vegetable ordinal to count
+     * @param evenPoints Points awarded for an even count
+     * @param oddPoints Points awarded for an odd count
+     */
+    public EvenOddRule(int vegetable, int evenPoints, int oddPoints) {
+        this.vegetable = vegetable;
+        this.evenPoints = evenPoints;
+        this.oddPoints = oddPoints;
+        this.dependencyMask = ScoringRuleCompiler.dependencyMask(getDependencies());
+    }
+
+    /**
+     * Scores the parity of the vegetable count.
+     *
+     * @param context The scoring context
+     * @return The points awarded
+     */
+    public int evaluate(ScoringContext context) {
+        return (context.count(vegetable) % 2 == 0) ? evenPoints : oddPoints;
+    }
+
+    /**
+     * Gets the id of the rule.
+     *
+     * @return The rule id, unique in the JVM
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the vegetables the score depends on.
+     *
+     * @return The counted vegetable
+     */
+    public int[] getDependencies() {
+        return new int[] {vegetable};
+    }
+
+    /**
+     * Gets the dependencies as bits, computed once when the rule is built.
+     *
+     * @return The bit of the counted vegetable
+     */
+    public int getDependencyMask() {
+        return dependencyMask;
+    }
+
+    /**
+     * Gets the count from which the score no longer changes.
+     *
+     * @return Integer.MAX_VALUE, since the score keeps changing
+     */
+    public int getSaturation() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Gets the counted vegetable ordinal.
+     *
+     * @return The counted vegetable ordinal
+     */
+    int getVegetable() {
+        return vegetable;
+    }
+
+    /**
+     * Gets the points for an even count.
+     *
+     * @return The points for an even count
+     */
+    int getEvenPoints() {
+        return evenPoints;
+    }
+
+    /**
+     * Gets the points for an odd count.
+     *
+     * @return The points for an odd count
+     */
+    int getOddPoints() {
+        return oddPoints;
+    }
+}
@@ -0,0 +1,111 @@
+package scoring;
+
+import card.ICardCounter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Score calculator that evaluates criteria cards through an evaluator class generated
+ * at startup for the distinct criteria by CriteriaEvaluatorFactory.
+ * Every rule it knows is found by id in an array, so evaluation never hashes, and every
+ * generated rule is evaluated through the same class. A rule compiled later makes the
+ * evaluator be generated again with that rule added.
+ * Gives the same results as SaladScoreCalc, which handles the hand counting and opponent aggregates.
+ */
+public class GeneratedScoreCalc extends SaladScoreCalc {
+    private static final byte GENERATED = 1;
+    private static final byte DIRECT = 2;
+
+    private static volatile Generated generated = new Generated(new IScoringRule[0]);
+
+    /**
+     * Constructs a new GeneratedScoreCalc and generates the evaluator of all rules compiled so far.
+     *
+     * @param cardCounter The card counter utility to use
+     */
+    public GeneratedScoreCalc(ICardCounter cardCounter) {
+        super(cardCounter);
+        include(ScoringRuleCompiler.getCompiledRules());
+    }
+
+    /**
+     * Evaluates a compiled rule through the generated evaluator.
+     *
+     * @param rule The compiled rule of a criteria card
+     * @param context The scoring context for the hand
+     * @return The points awarded by the rule
+     */
+    @Override
+    protected int evaluate(IScoringRule rule, ScoringContext context) {
+        Generated current = generated;
+        int id = rule.getId();
+        byte state = id < current.states.length ? current.states[id] : 0;
+        if (state == GENERATED) {
+            return current.evaluator.evaluate(id, context);
+        }
+        if (state == 0) {
+            include(Arrays.asList(rule));
+        }
+        return rule.evaluate(context);
+    }
+
+    /**
+     * Generates the evaluator again with the given rules added, unless it knows all of them.
+     *
+     * @param rules The compiled rules to add
+     */
+    private static synchronized void include(Collection<IScoringRule> rules) {
+        ArrayList<IScoringRule> all = new ArrayList<>(Arrays.asList(generated.rules));
+        for (IScoringRule rule : rules) {
+            int id = rule.getId();
+            if (id >= generated.states.length || generated.states[id] == 0) {
+                all.add(rule);
+            }
+        }
+        if (all.size() > generated.rules.length) {
+            generated = new Generated(all.toArray(new IScoringRule[0]));
+        }
+    }
+
+    /**
+     * Immutable evaluator of a set of rules, with the state of each rule indexed by id.
+     */
+    private static final class Generated {
+        final IScoringRule[] rules;
+        final byte[] states;
+        final ICriteriaEvaluator evaluator;
+
+        Generated(IScoringRule[] rules) {
+            this.rules = rules;
+            int size = 0;
+            int count = 0;
+            for (IScoringRule rule : rules) {
+                size = Math.max(size, rule.getId() + 1);
+                if (CriteriaEvaluatorFactory.canGenerate(rule)) {
+                    count++;
+                }
+            }
+            IScoringRule[] generatable = new IScoringRule[count];
+            count = 0;
+            for (IScoringRule rule : rules) {
+                if (CriteriaEvaluatorFactory.canGenerate(rule)) {
+                    generatable[count++] = rule;
+                }
+            }
+            boolean[] handled = new boolean[count];
+            this.evaluator = CriteriaEvaluatorFactory.generate(generatable, handled);
+
+            this.states = new byte[size];
+            for (IScoringRule rule : rules) {
+                states[rule.getId()] = DIRECT;
+            }
+            for (int i = 0; i < count; i++) {
+                if (handled[i]) {
+                    states[generatable[i].getId()] = GENERATED;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package scoring;
+
+/**
+ * Specialized evaluator generated for a set of distinct compiled criteria.
+ */
+public interface ICriteriaEvaluator {
+    /**
+     * Evaluates one of the generated criteria for the hand currently held by the context.
+     *
+     * @param rule The id of the compiled rule, one of the ids the evaluator was generated for
+     * @param context The scoring context for the hand
+     * @return The points awarded
+     */
+    int evaluate(int rule, ScoringContext context);
+}
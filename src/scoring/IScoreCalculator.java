@@ -1,8 +1,10 @@
 package scoring;
 
 import card.ICard;
+import card.IHand;
 import player.IPlayer;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Defines the interface for score calculation in PointSalad.
@@ -18,5 +20,79 @@ public interface IScoreCalculator {
      * @param players All players in the game (for relative scoring conditions)
      * @return The calculated total score
      */
-    int calculateScore(ArrayList<ICard> hand, IPlayer thisPlayer, ArrayList<IPlayer> players);
+    int calculateScore(List<ICard> hand, IPlayer thisPlayer, ArrayList<IPlayer> players);
+
+    /**
+     * Calculates how much a hand's score would change if up to two cards were added to it.
+     * Cards are counted by the side they currently show. The hand is not copied or modified.
+     *
+     * @param hand The player's current hand
+     * @param thisPlayer The player being scored
+     * @param players All players in the game (for relative scoring conditions)
+     * @param first The first card to add
+     * @param second The second card to add, or null to add a single card
+     * @return The score after adding the cards minus the current score
+     */
+    int scoreDelta(IHand hand, IPlayer thisPlayer, ArrayList<IPlayer> players, ICard first, ICard second);
+
+    /**
+     * Calculates scoreDelta for many candidate additions at once, counting the hand only once.
+     * The hand is not copied or modified.
+     *
+     * @param hand The player's current hand
+     * @param thisPlayer The player being scored
+     * @param players All players in the game (for relative scoring conditions)
+     * @param firsts The first card of each candidate
+     * @param seconds The second card of each candidate, or null entries for single cards
+     * @param count The number of candidates
+     * @param deltas Receives the score change of each candidate
+     */
+    void scoreDeltas(IHand hand, IPlayer thisPlayer, ArrayList<IPlayer> players, ICard[] firsts, ICard[] seconds,
+                     int count, int[] deltas);
+
+    /**
+     * Calculates scoreDeltas when the player may also flip one criteria card after taking the cards,
+     * either one already in the hand or one just taken. The hand is not copied or modified.
+     *
+     * @param hand The player's current hand
+     * @param thisPlayer The player being scored
+     * @param players All players in the game (for relative scoring conditions)
+     * @param firsts The first card of each candidate
+     * @param seconds The second card of each candidate, or null entries for single cards
+     * @param count The number of candidates
+     * @param deltas Receives the score change of each candidate with its best flip
+     * @param flips Receives the card to flip for each candidate, or null if no flip helps
+     */
+    void scoreDeltasWithFlip(IHand hand, IPlayer thisPlayer, ArrayList<IPlayer> players, ICard[] firsts,
+                             ICard[] seconds, int count, int[] deltas, ICard[] flips);
+
+    /**
+     * Calculates how much a hand's score would change if a criteria card in it was flipped to its vegetable side.
+     * The hand and the card are not modified.
+     *
+     * @param hand The player's current hand
+     * @param thisPlayer The player being scored
+     * @param players All players in the game (for relative scoring conditions)
+     * @param card A criteria card in the hand
+     * @return The score after the flip minus the current score
+     */
+    int flipDelta(IHand hand, IPlayer thisPlayer, ArrayList<IPlayer> players, ICard card);
+
+    /**
+     * Calculates the scores of all players at once, counting each hand only once.
+     *
+     * @param players All players in the game
+     * @return The score of each player, in the same order as the list
+     */
+    int[] scoreAll(ArrayList<IPlayer> players);
+
+    /**
+     * Calculates the scores of all players and the points of every criteria card.
+     *
+     * @param players All players in the game
+     * @param criteriaPoints Receives, per player, the points of each criteria card
+     *                       in the order of the hand's criteria cards
+     * @return The score of each player, in the same order as the list
+     */
+    int[] scoreAll(ArrayList<IPlayer> players, int[][] criteriaPoints);
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package scoring;
+
+/**
+ * Represents a compiled scoring criteria from a point card.
+ * Rules are built once per distinct criteria text and evaluated
+ * against a scoring context without any string parsing.
+ */
+public interface IScoringRule {
+    /**
+     * Rule used for cards without scorable criteria.
+     */
+    IScoringRule NONE = new CompositeRule(new IScoringRule[0]);
+
+    /**
+     * Evaluates the rule for the hand currently held by the context.
+     *
+     * @param context The scoring context with vegetable counts for the scored hand
+     * @return The points awarded by this rule
+     */
+    int evaluate(ScoringContext context);
+
+    /**
+     * Gets the id of the rule, unique among the rules built in the JVM.
+     * Ids are small and dense, so calculators can keep data per rule in arrays.
+     *
+     * @return The rule id
+     */
+    int getId();
+
+    /**
+     * Gets the vegetables whose counts in the scored hand determine the score.
+     *
+     * @return Vegetable ordinals the score depends on, or null if the score
+     *         also depends on other players or on nested rules
+     */
+    int[] getDependencies();
+
+    /**
+     * Gets the dependencies as bits indexed by vegetable ordinal, computed once per rule.
+     *
+     * @return The dependency bits, or -1 (all bits) if getDependencies is null
+     */
+    int getDependencyMask();
+
+    /**
+     * Gets the count from which the score no longer changes for any dependency.
+     * Counts above it score the same as the saturation count.
+     *
+     * @return The saturation count, or Integer.MAX_VALUE if there is none
+     */
+    int getSaturation();
+}
@@ -0,0 +1,118 @@
+package scoring;
+
+/**
+ * Compiled "MOST" / "FEWEST" criteria, for a single vegetable or for the total vegetable count.
+ * Ties are awarded to every player sharing the extreme count.
+ */
+public class MostFewestRule implements IScoringRule {
+    private final int id = ScoringRuleCompiler.nextRuleId();
+    private final int index;
+    private final boolean most;
+    private final boolean fewest;
+    private final int points;
+    private final int dependencyMask;
+
+    /**
+     * Constructs a new MostFewestRule.
+     *
+     * @param index The vegetable ordinal, or ScoringContext.TOTAL for all vegetables
+     * @param most true if the player needs the most vegetables
+     * @param fewest true if the player needs the fewest vegetables
+     * @param points The points awarded when the condition holds
+     */
+    public MostFewestRule(int index, boolean most, boolean fewest, int points) {
+        this.index = index;
+        this.most = most;
+        this.fewest = fewest;
+        this.points = points;
+        this.dependencyMask = ScoringRuleCompiler.dependencyMask(getDependencies());
+    }
+
+    /**
+     * Awards the points if the scored hand holds the most (or fewest) vegetables.
+     *
+     * @param context The scoring context
+     * @return The points awarded
+     */
+    public int evaluate(ScoringContext context) {
+        if (most) {
+            return context.isMost(index) ? points : 0;
+        }
+        if (fewest) {
+            return context.isFewest(index) ? points : 0;
+        }
+        return points;
+    }
+
+    /**
+     * Gets the id of the rule.
+     *
+     * @return The rule id, unique in the JVM
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the vegetables the score depends on.
+     *
+     * @return null for relative criteria (they depend on other players), otherwise no vegetables
+     */
+    public int[] getDependencies() {
+        return (most || fewest) ? null : new int[0];
+    }
+
+    /**
+     * Gets the dependencies as bits, computed once when the rule is built.
+     *
+     * @return -1 when comparing with other players, otherwise 0
+     */
+    public int getDependencyMask() {
+        return dependencyMask;
+    }
+
+    /**
+     * Gets the count from which the score no longer changes.
+     *
+     * @return Integer.MAX_VALUE, since the score keeps changing
+     */
+    public int getSaturation() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Gets the counted vegetable ordinal or ScoringContext.TOTAL.
+     *
+     * @return The counted vegetable ordinal or ScoringContext.TOTAL
+     */
+    int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets whether the player needs the most vegetables.
+     *
+     * @return Whether the player needs the most vegetables
+     */
+    boolean isMost() {
+        return most;
+    }
+
+    /**
+     * Gets whether the player needs the fewest vegetables.
+     *
+     * @return Whether the player needs the fewest vegetables
+     */
+    boolean isFewest() {
+        return fewest;
+    }
+
+    /**
+     * Gets the points awarded.
+     *
+     * @return The points awarded
+     */
+    int getPoints() {
+        return points;
+    }
+}
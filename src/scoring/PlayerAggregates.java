@@ -0,0 +1,135 @@
+package scoring;
+
+import card.ICardCounter;
+import player.IPlayer;
+
+import java.util.ArrayList;
+
+/**
+ * Vegetable histograms of every player at a table, with the per-vegetable and total
+ * extremes needed by "MOST" / "FEWEST" criteria.
+ * The two highest and two lowest counts are kept per index, so the extreme among
+ * a player's opponents is found in constant time.
+ */
+public class PlayerAggregates {
+    private static final int SIZE = ICardCounter.HISTOGRAM_SIZE;
+
+    private final ICardCounter cardCounter;
+    private int[][] histograms = new int[0][];
+    private final int[] highest = new int[SIZE];
+    private final int[] secondHighest = new int[SIZE];
+    private final int[] lowest = new int[SIZE];
+    private final int[] secondLowest = new int[SIZE];
+    private int playerCount;
+
+    /**
+     * Constructs new PlayerAggregates using the specified card counter.
+     *
+     * @param cardCounter The card counter utility to use
+     */
+    public PlayerAggregates(ICardCounter cardCounter) {
+        this.cardCounter = cardCounter;
+    }
+
+    /**
+     * Counts every player's hand once and updates the extremes.
+     *
+     * @param players All players in the game
+     */
+    public void update(ArrayList<IPlayer> players) {
+        playerCount = players.size();
+        if (histograms.length < playerCount) {
+            histograms = new int[playerCount][SIZE];
+        }
+        for (int p = 0; p < playerCount; p++) {
+            cardCounter.countHistogram(players.get(p).getHand(), histograms[p]);
+        }
+        updateExtremes();
+    }
+
+    /**
+     * Copies already counted histograms and updates the extremes.
+     *
+     * @param playerHistograms One histogram per player, indexed like ICardCounter histograms
+     * @param players The number of players
+     */
+    public void update(int[][] playerHistograms, int players) {
+        playerCount = players;
+        if (histograms.length < playerCount) {
+            histograms = new int[playerCount][SIZE];
+        }
+        for (int p = 0; p < playerCount; p++) {
+            System.arraycopy(playerHistograms[p], 0, histograms[p], 0, SIZE);
+        }
+        updateExtremes();
+    }
+
+    private void updateExtremes() {
+        for (int i = 0; i < SIZE; i++) {
+            highest[i] = Integer.MIN_VALUE;
+            secondHighest[i] = Integer.MIN_VALUE;
+            lowest[i] = Integer.MAX_VALUE;
+            secondLowest[i] = Integer.MAX_VALUE;
+        }
+
+        for (int p = 0; p < playerCount; p++) {
+            int[] histogram = histograms[p];
+            for (int i = 0; i < SIZE; i++) {
+                int count = histogram[i];
+                if (count > highest[i]) {
+                    secondHighest[i] = highest[i];
+                    highest[i] = count;
+                } else if (count > secondHighest[i]) {
+                    secondHighest[i] = count;
+                }
+                if (count < lowest[i]) {
+                    secondLowest[i] = lowest[i];
+                    lowest[i] = count;
+                } else if (count < secondLowest[i]) {
+                    secondLowest[i] = count;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of players counted by the last update.
+     *
+     * @return The player count
+     */
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Gets the histogram of one player.
+     *
+     * @param player Index of the player in the list given to update
+     * @return The player's histogram
+     */
+    public int[] getHistogram(int player) {
+        return histograms[player];
+    }
+
+    /**
+     * Gets the highest count among every player except the given one.
+     *
+     * @param player Index of the player to leave out
+     * @param index The vegetable ordinal, or ICardCounter.TOTAL
+     * @return The highest opponent count, or Integer.MIN_VALUE without opponents
+     */
+    public int opponentsMost(int player, int index) {
+        return histograms[player][index] == highest[index] ? secondHighest[index] : highest[index];
+    }
+
+    /**
+     * Gets the lowest count among every player except the given one.
+     *
+     * @param player Index of the player to leave out
+     * @param index The vegetable ordinal, or ICardCounter.TOTAL
+     * @return The lowest opponent count, or Integer.MAX_VALUE without opponents
+     */
+    public int opponentsFewest(int player, int index) {
+        return histograms[player][index] == lowest[index] ? secondLowest[index] : lowest[index];
+    }
+}
@@ -0,0 +1,115 @@
+package scoring;
+
+import java.util.Arrays;
+
+/**
+ * Compiled "+" criteria (combinations of vegetables).
+ * Repeats of the same vegetable score per group of that vegetable,
+ * otherwise the rule scores per complete combination.
+ */
+public class PlusRule implements IScoringRule {
+    private final int id = ScoringRuleCompiler.nextRuleId();
+    private final int[] vegetables;
+    private final int sameKind;
+    private final int points;
+    private final int[] dependencies;
+    private final int dependencyMask;
+
+    /**
+     * Constructs a new PlusRule.
+     *
+     * @param vegetables Vegetable ordinals in the combination
+     * @param sameKind Number of times the first vegetable occurs in the combination
+     * @param points The points awarded per combination
+     */
+    public PlusRule(int[] vegetables, int sameKind, int points) {
+        this.vegetables = vegetables;
+        this.sameKind = sameKind;
+        this.points = points;
+        this.dependencies = sameKind > 1 ? new int[] {vegetables[0]} : Arrays.stream(vegetables).distinct().toArray();
+        this.dependencyMask = ScoringRuleCompiler.dependencyMask(getDependencies());
+    }
+
+    /**
+     * Counts the complete combinations in the hand and scores them.
+     *
+     * @param context The scoring context
+     * @return The points awarded
+     */
+    public int evaluate(ScoringContext context) {
+        if (sameKind > 1) {
+            return (context.count(vegetables[0]) / sameKind) * points;
+        }
+        int min = context.count(vegetables[0]);
+        for (int i = 1; i < vegetables.length; i++) {
+            int count = context.count(vegetables[i]);
+            if (count < min) {
+                min = count;
+            }
+        }
+        return min * points;
+    }
+
+    /**
+     * Gets the id of the rule.
+     *
+     * @return The rule id, unique in the JVM
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the vegetables the score depends on.
+     *
+     * @return The first vegetable for repeated combinations, otherwise all vegetables in the combination
+     */
+    public int[] getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Gets the dependencies as bits, computed once when the rule is built.
+     *
+     * @return The bits of the vegetables combinations are counted from
+     */
+    public int getDependencyMask() {
+        return dependencyMask;
+    }
+
+    /**
+     * Gets the count from which the score no longer changes.
+     *
+     * @return Integer.MAX_VALUE, since the score keeps changing
+     */
+    public int getSaturation() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Gets the vegetable ordinals in the combination.
+     *
+     * @return The vegetable ordinals in the combination
+     */
+    int[] getVegetables() {
+        return vegetables;
+    }
+
+    /**
+     * Gets the number of times the first vegetable occurs.
+     *
+     * @return The number of times the first vegetable occurs
+     */
+    int getSameKind() {
+        return sameKind;
+    }
+
+    /**
+     * Gets the points per combination.
+     *
+     * @return The points per combination
+     */
+    int getPoints() {
+        return points;
+    }
+}
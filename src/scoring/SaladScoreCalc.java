@@ -2,19 +2,25 @@ package scoring;
 
 import card.ICard;
 import card.ICardCounter;
-import card.Vegetable;
+import card.IHand;
 import player.IPlayer;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.List;
 
 /**
  * Implements the scoring calculation logic for PointSalad.
- * Handles all scoring criteria defined in the game rules.
+ * Handles all scoring criteria defined in the game rules
+ * by evaluating the compiled scoring rule carried by each criteria card.
  * Implements IScoreCalculator interface.
  */
 public class SaladScoreCalc implements IScoreCalculator {
     private ICardCounter cardCounter;
+    private ScoringContext context;
+    private PlayerAggregates aggregates;
+    private ICard[] scoredCards = new ICard[0];
+    private int[] scoredMasks = new int[0];
+    private int[] scoredPoints = new int[0];
 
     /**
      * Constructs a new SaladScoreCalc with the specified card counter.
@@ -23,6 +29,8 @@ public class SaladScoreCalc implements IScoreCalculator {
      */
     public SaladScoreCalc(ICardCounter cardCounter) {
         this.cardCounter = cardCounter;
+        this.context = new ScoringContext(cardCounter);
+        this.aggregates = new PlayerAggregates(cardCounter);
     }
 
     /**
@@ -33,248 +41,271 @@ public class SaladScoreCalc implements IScoreCalculator {
      * @param players All players in the game (for relative scoring)
      * @return The calculated total score
      */
-    public int calculateScore(ArrayList<ICard> hand, IPlayer thisPlayer, ArrayList<IPlayer> players) {
+    public int calculateScore(List<ICard> hand, IPlayer thisPlayer, ArrayList<IPlayer> players) {
         int totalScore = 0;
+        context.reset(hand, thisPlayer, players);
 
-        for(ICard criteriaCard : hand) {
-            if(criteriaCard.getCriteriaSideUp()) {
-                String criteria = criteriaCard.getCriteria();
-                String[] parts = criteria.split(",");
+        if (hand instanceof IHand) {
+            return scoreCriteria(((IHand) hand).getCriteriaCards(), null);
+        }
 
-                if (criteria.contains("TOTAL") || criteria.contains("TYPE") || criteria.contains("SET")) {
-                    totalScore += evaluateTotalTypeSet(criteria, hand, thisPlayer, players);
-                } else if (criteria.contains("MOST") || criteria.contains("FEWEST")) {
-                    totalScore += handleMostFewest(criteria, hand, thisPlayer, players);
-                } else if (parts.length > 1 || criteria.indexOf("+")>=0 || parts[0].indexOf("/")>=0) {
-                    totalScore += evaluateComplexCriteria(criteria, hand, parts);
-                }
+        for (int i = 0; i < hand.size(); i++) {
+            ICard criteriaCard = hand.get(i);
+            if (criteriaCard.getCriteriaSideUp()) {
+                totalScore += evaluate(criteriaCard.getScoringRule(), context);
             }
         }
         return totalScore;
     }
 
     /**
-     * Handles scoring for criteria involving totals, types, or complete sets.
+     * Calculates the score change from adding up to two cards, using the hand's live counts.
      *
-     * @param criteria The scoring criteria text
-     * @param hand The player's hand
-     * @param thisPlayer The current player
-     * @param players All players
-     * @return The calculated score for these criteria
+     * @param hand The player's current hand
+     * @param thisPlayer The player being scored
+     * @param players All players in the game (for relative scoring)
+     * @param first The first card to add
+     * @param second The second card to add, or null
+     * @return The score after adding the cards minus the current score
      */
-    private int evaluateTotalTypeSet(String criteria, ArrayList<ICard> hand, IPlayer thisPlayer, ArrayList<IPlayer> players) {
-        int score = 0;
+    public int scoreDelta(IHand hand, IPlayer thisPlayer, ArrayList<IPlayer> players, ICard first, ICard second) {
+        context.reset(hand, thisPlayer, players);
+        int before = scoreCriteria(hand.getCriteriaCards(), null);
 
-        if (criteria.contains("TOTAL")) {
-            score += handleTotalVegetables(criteria, hand, thisPlayer, players);
+        context.add(first);
+        context.add(second);
+        int after = scoreCriteria(hand.getCriteriaCards(), null);
+        if (first != null && first.getCriteriaSideUp()) {
+            after += evaluate(first.getScoringRule(), context);
         }
-
-        if (criteria.contains("TYPE")) {
-            score += handleTypeCriteria(criteria, hand);
+        if (second != null && second.getCriteriaSideUp()) {
+            after += evaluate(second.getScoringRule(), context);
         }
+        return after - before;
+    }
+
+    /**
+     * Calculates the score changes of many candidate additions, counting the hand only once.
+     * Each candidate's cards are added to the context's counts and taken out again after scoring.
+     *
+     * @param hand The player's current hand
+     * @param thisPlayer The player being scored
+     * @param players All players in the game (for relative scoring)
+     * @param firsts The first card of each candidate
+     * @param seconds The second card of each candidate, or null entries for single cards
+     * @param count The number of candidates
+     * @param deltas Receives the score change of each candidate
+     */
+    public void scoreDeltas(IHand hand, IPlayer thisPlayer, ArrayList<IPlayer> players, ICard[] firsts,
+                            ICard[] seconds, int count, int[] deltas) {
+        context.reset(hand, thisPlayer, players);
+        List<ICard> criteriaCards = hand.getCriteriaCards();
+        int before = scoreCriteria(criteriaCards, null);
 
-        if (criteria.contains("SET")) {
-            score += handleSetCriteria(hand);
+        for (int i = 0; i < count; i++) {
+            ICard first = firsts[i];
+            ICard second = seconds[i];
+            context.add(first);
+            context.add(second);
+            int after = scoreCriteria(criteriaCards, null) + scoreTaken(first) + scoreTaken(second);
+            context.remove(second);
+            context.remove(first);
+            deltas[i] = after - before;
         }
-        return score;
     }
 
     /**
-     * Handles scoring for complex criteria with multiple parts.
+     * Calculates the score changes of many candidate additions, each followed by its best flip.
+     * Each card's points are scored once per candidate; a flip only re-evaluates the rules
+     * that depend on the flipped card's vegetable, the total or other players.
      *
-     * @param criteria The scoring criteria text
-     * @param hand The player's hand
-     * @param parts The split criteria parts
-     * @return The calculated score for these criteria
+     * @param hand The player's current hand
+     * @param thisPlayer The player being scored
+     * @param players All players in the game (for relative scoring)
+     * @param firsts The first card of each candidate
+     * @param seconds The second card of each candidate, or null entries for single cards
+     * @param count The number of candidates
+     * @param deltas Receives the score change of each candidate with its best flip
+     * @param flips Receives the card to flip for each candidate, or null if no flip helps
      */
-    private int evaluateComplexCriteria(String criteria, ArrayList<ICard> hand, String[] parts) {
-        int score = 0;
+    public void scoreDeltasWithFlip(IHand hand, IPlayer thisPlayer, ArrayList<IPlayer> players, ICard[] firsts,
+                                    ICard[] seconds, int count, int[] deltas, ICard[] flips) {
+        context.reset(hand, thisPlayer, players);
+        List<ICard> criteriaCards = hand.getCriteriaCards();
+        int before = scoreCriteria(criteriaCards, null);
 
-        if (criteria.contains("+")) {
-            score += handlePlusCriteria(criteria, hand);
+        int size = criteriaCards.size();
+        if (scoredCards.length < size + 2) {
+            scoredCards = new ICard[size + 2];
+            scoredMasks = new int[size + 2];
+            scoredPoints = new int[size + 2];
         }
-
-        if (criteria.contains("EVEN") || criteria.contains("ODD")) {
-            score += handleEvenOddCriteria(criteria, hand, parts);
+        ICard[] cards = scoredCards;
+        int[] masks = scoredMasks;
+        int[] points = scoredPoints;
+        for (int c = 0; c < size; c++) {
+            cards[c] = criteriaCards.get(c);
+            masks[c] = cards[c].getScoringRule().getDependencyMask();
         }
 
-        if (criteria.contains("/")) {
-            score += handleSlashCriteria(hand, parts);
+        for (int i = 0; i < count; i++) {
+            ICard first = firsts[i];
+            ICard second = seconds[i];
+            context.add(first);
+            context.add(second);
+
+            // The hand's criteria cards, followed by the taken cards that show their criteria side
+            int scored = size;
+            for (int t = 0; t < 2; t++) {
+                ICard taken = t == 0 ? first : second;
+                if (taken != null && taken.getCriteriaSideUp()) {
+                    cards[scored] = taken;
+                    masks[scored++] = taken.getScoringRule().getDependencyMask();
+                }
+            }
+            int base = 0;
+            for (int c = 0; c < scored; c++) {
+                points[c] = evaluate(cards[c].getScoringRule(), context);
+                base += points[c];
+            }
+
+            int best = base;
+            ICard bestFlip = null;
+            for (int f = 0; f < scored; f++) {
+                ICard flipped = cards[f];
+                int changed = flipMask(flipped);
+                context.flip(flipped);
+                int after = base - points[f];
+                for (int c = 0; c < scored; c++) {
+                    if (c != f && (masks[c] & changed) != 0) {
+                        after += evaluate(cards[c].getScoringRule(), context) - points[c];
+                    }
+                }
+                context.unflip(flipped);
+                if (after > best) {
+                    best = after;
+                    bestFlip = flipped;
+                }
+            }
+
+            context.remove(second);
+            context.remove(first);
+            deltas[i] = best - before;
+            flips[i] = bestFlip;
         }
-        return score;
     }
 
     /**
-     * Scores criteria based on total vegetable counts.
+     * Gets the counts that change when a criteria card is flipped to its vegetable side.
      *
-     * @param criteria The scoring criteria
-     * @param hand The player's hand
-     * @param thisPlayer The current player
-     * @param players All players
-     * @return The calculated score
+     * @param card The flipped card
+     * @return Bits of the card's vegetable ordinal and TOTAL
      */
-    private int handleTotalVegetables(String criteria, ArrayList<ICard> hand, IPlayer thisPlayer, ArrayList<IPlayer> players) {
-        int countVeg = cardCounter.countTotalVegetables(hand);
-        int thisHandCount = countVeg;
-        for(IPlayer p : players) {
-            if(p.getPlayerID() != thisPlayer.getPlayerID()) {
-                int playerVeg = cardCounter.countTotalVegetables(p.getHand());
-                if((criteria.indexOf("MOST")>=0) && (playerVeg > countVeg)) {
-                    countVeg = cardCounter.countTotalVegetables(p.getHand());
-                }
-                if((criteria.indexOf("FEWEST")>=0) && (playerVeg < countVeg)) {
-                    countVeg = cardCounter.countTotalVegetables(p.getHand());
-                }
-            }
-        }
-        if(countVeg == thisHandCount) {
-            return Integer.parseInt(criteria.substring(criteria.indexOf("=")+1).trim());
+    private static int flipMask(ICard card) {
+        int mask = 1 << ScoringContext.TOTAL;
+        if (card.getVegetable() != null) {
+            mask |= 1 << card.getVegetable().ordinal();
         }
-        return 0;
+        return mask;
     }
 
     /**
-     * Scores criteria based on vegetable types.
+     * Scores a card being taken if it shows its criteria side.
      *
-     * @param criteria The scoring criteria
-     * @param hand The player's hand
-     * @return The calculated score
+     * @param card The taken card, may be null
+     * @return The points of the card's criteria
      */
-    private int handleTypeCriteria(String criteria, ArrayList<ICard> hand) {
-        String[] expr = criteria.split("/");
-        int addScore = Integer.parseInt(expr[0].trim());
-        if(expr[1].indexOf("MISSING")>=0) {
-            int missing = 0;
-            for (Vegetable vegetable : Vegetable.values()) {
-                if(cardCounter.countVegetables(hand, vegetable) == 0) {
-                    missing++;
-                }
-            }
-            return missing * addScore;
-        }
-        else {
-            int atLeastPerVegType = Integer.parseInt(expr[1].substring(expr[1].indexOf(">=")+2).trim());
-            int totalType = 0;
-            for(Vegetable vegetable : Vegetable.values()) {
-                int countVeg = cardCounter.countVegetables(hand, vegetable);
-                if(countVeg >= atLeastPerVegType) {
-                    totalType++;
-                }
-            }
-            return totalType * addScore;
+    private int scoreTaken(ICard card) {
+        if (card == null || !card.getCriteriaSideUp()) {
+            return 0;
         }
+        return evaluate(card.getScoringRule(), context);
     }
 
     /**
-     * Scores complete set criteria (one of each vegetable).
+     * Calculates the score change from flipping a criteria card in the hand to its vegetable side.
      *
-     * @param hand The player's hand
-     * @return The calculated score
+     * @param hand The player's current hand
+     * @param thisPlayer The player being scored
+     * @param players All players in the game (for relative scoring)
+     * @param card A criteria card in the hand
+     * @return The score after the flip minus the current score
      */
-    private int handleSetCriteria(ArrayList<ICard> hand) {
-        int addScore = 12;
-        for (Vegetable vegetable : Vegetable.values()) {
-            int countVeg = cardCounter.countVegetables(hand, vegetable);
-            if(countVeg == 0) {
-                addScore = 0;
-                break;
-            }
-        }
-        return addScore;
+    public int flipDelta(IHand hand, IPlayer thisPlayer, ArrayList<IPlayer> players, ICard card) {
+        context.reset(hand, thisPlayer, players);
+        int before = scoreCriteria(hand.getCriteriaCards(), null);
+
+        context.flip(card);
+        int after = scoreCriteria(hand.getCriteriaCards(), card);
+        return after - before;
     }
 
     /**
-     * Handles "MOST" and "FEWEST" scoring criteria.
+     * Calculates the scores of all players, sharing the counts of every hand
+     * and the opponent extremes between all relative criteria.
      *
-     * @param criteria The scoring criteria
-     * @param hand The player's hand
-     * @param thisPlayer The current player
-     * @param players All players
-     * @return The calculated score
+     * @param players All players in the game
+     * @return The score of each player, in the same order as the list
      */
-    private int handleMostFewest(String criteria, ArrayList<ICard> hand, IPlayer thisPlayer, ArrayList<IPlayer> players) {
-        int vegIndex = criteria.indexOf("MOST")>=0 ? criteria.indexOf("MOST")+5 : criteria.indexOf("FEWEST")+7;
-        String veg = criteria.substring(vegIndex, criteria.indexOf("=")).trim();
-        int countVeg = cardCounter.countVegetables(hand, Vegetable.valueOf(veg));
-        int nrVeg = countVeg;
-        for(IPlayer p : players) {
-            if(p.getPlayerID() != thisPlayer.getPlayerID()) {
-                int playerVeg = cardCounter.countVegetables(p.getHand(), Vegetable.valueOf(veg));
-                if((criteria.indexOf("MOST")>=0) && (playerVeg > nrVeg)) {
-                    nrVeg = cardCounter.countVegetables(p.getHand(), Vegetable.valueOf(veg));
-                }
-                if((criteria.indexOf("FEWEST")>=0) && (playerVeg < nrVeg)) {
-                    nrVeg = cardCounter.countVegetables(p.getHand(), Vegetable.valueOf(veg));
-                }
-            }
-        }
-        if(nrVeg == countVeg) {
-            return Integer.parseInt(criteria.substring(criteria.indexOf("=")+1).trim());
-        }
-        return 0;
+    public int[] scoreAll(ArrayList<IPlayer> players) {
+        return scoreAll(players, null);
     }
 
     /**
-     * Handles "+" criteria (combinations of vegetables).
+     * Calculates the scores of all players and the points of every criteria card.
      *
-     * @param criteria The scoring criteria
-     * @param hand The player's hand
-     * @return The calculated score
+     * @param players All players in the game
+     * @param criteriaPoints Receives, per player, the points of each criteria card
+     *                       in the order of the hand's criteria cards, or null
+     * @return The score of each player, in the same order as the list
      */
-    private int handlePlusCriteria(String criteria, ArrayList<ICard> hand) {
-        String expr = criteria.split("=")[0].trim();
-        String[] vegs = expr.split("\\+");
-        int[] nrVeg = new int[vegs.length];
-        int countSameKind = 1;
-        for (int j = 1; j < vegs.length; j++) {
-            if (vegs[0].trim().equals(vegs[j].trim())) {
-                countSameKind++;
-            }
-        }
-        if (countSameKind > 1) {
-            return ((int) cardCounter.countVegetables(hand, Vegetable.valueOf(vegs[0].trim())) / countSameKind) *
-                    Integer.parseInt(criteria.split("=")[1].trim());
-        } else {
-            for (int i = 0; i < vegs.length; i++) {
-                nrVeg[i] = cardCounter.countVegetables(hand, Vegetable.valueOf(vegs[i].trim()));
+    public int[] scoreAll(ArrayList<IPlayer> players, int[][] criteriaPoints) {
+        aggregates.update(players);
+        int[] scores = new int[players.size()];
+        for (int p = 0; p < scores.length; p++) {
+            context.reset(aggregates, p);
+            List<ICard> criteriaCards = players.get(p).getHand().getCriteriaCards();
+            if (criteriaPoints == null) {
+                scores[p] = scoreCriteria(criteriaCards, null);
+                continue;
             }
-            int min = nrVeg[0];
-            for (int x = 1; x < nrVeg.length; x++) {
-                if (nrVeg[x] < min) {
-                    min = nrVeg[x];
-                }
+            int[] points = new int[criteriaCards.size()];
+            for (int i = 0; i < points.length; i++) {
+                points[i] = evaluate(criteriaCards.get(i).getScoringRule(), context);
+                scores[p] += points[i];
             }
-            return min * Integer.parseInt(criteria.split("=")[1].trim());
+            criteriaPoints[p] = points;
         }
+        return scores;
     }
 
     /**
-     * Handles EVEN/ODD criteria.
+     * Evaluates a single compiled rule against the context.
+     * Subclasses can override this to evaluate rules in a different way.
      *
-     * @param criteria The scoring criteria
-     * @param hand The player's hand
-     * @param parts The split criteria parts
-     * @return The calculated score
+     * @param rule The compiled rule of a criteria card
+     * @param context The scoring context for the hand
+     * @return The points awarded by the rule
      */
-    private int handleEvenOddCriteria(String criteria, ArrayList<ICard> hand, String[] parts) {
-        String veg = parts[0].substring(0, parts[0].indexOf(":"));
-        int countVeg = cardCounter.countVegetables(hand, Vegetable.valueOf(veg));
-        return (countVeg%2==0)?7:3;
+    protected int evaluate(IScoringRule rule, ScoringContext context) {
+        return rule.evaluate(context);
     }
 
     /**
-     * Handles "/" criteria (points per vegetable).
+     * Scores a list of criteria cards against the current context.
      *
-     * @param hand The player's hand
-     * @param parts The split criteria parts
-     * @return The calculated score
+     * @param criteriaCards The criteria cards to score
+     * @param skipped A card to leave out, or null
+     * @return The summed score
      */
-    private int handleSlashCriteria(ArrayList<ICard> hand, String[] parts) {
+    private int scoreCriteria(List<ICard> criteriaCards, ICard skipped) {
         int score = 0;
-        for(int i = 0; i < parts.length; i++) {
-            String[] veg = parts[i].split("/");
-            score += Integer.parseInt(veg[0].trim()) * cardCounter.countVegetables(hand, Vegetable.valueOf(veg[1].trim()));
+        for (int i = 0; i < criteriaCards.size(); i++) {
+            ICard criteriaCard = criteriaCards.get(i);
+            if (criteriaCard != skipped) {
+                score += evaluate(criteriaCard.getScoringRule(), context);
+            }
         }
         return score;
     }
-}
\ No newline at end of file
+}
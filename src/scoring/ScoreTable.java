@@ -0,0 +1,91 @@
+package scoring;
+
+import card.ICardCounter;
+import card.SaladCardCounter;
+
+/**
+ * Precomputed values of one compiled rule over the reachable vegetable counts.
+ * The table is indexed by the counts of the vegetables the rule depends on,
+ * capped at the rule's saturation count or at the largest tabulated count.
+ * Relative rules (MOST / FEWEST) can't be tabulated and are evaluated directly.
+ * Tables are immutable once built and can be shared between threads.
+ */
+public class ScoreTable {
+    private final IScoringRule rule;
+    private final int[] dependencies;
+    private final int[] strides;
+    private final int cap;
+    private final boolean saturated;
+    private final int[] values;
+
+    /**
+     * Builds the table of a rule for hands with up to maxCount cards of each vegetable.
+     *
+     * @param rule The compiled rule to tabulate
+     * @param maxCount The largest count of a single vegetable to tabulate
+     */
+    public ScoreTable(IScoringRule rule, int maxCount) {
+        this.rule = rule;
+        this.dependencies = rule.getDependencies();
+        this.saturated = rule.getSaturation() <= maxCount;
+        this.cap = saturated ? rule.getSaturation() : maxCount;
+
+        if (dependencies == null) {
+            this.strides = null;
+            this.values = null;
+            return;
+        }
+
+        this.strides = new int[dependencies.length];
+        int size = 1;
+        for (int d = dependencies.length - 1; d >= 0; d--) {
+            strides[d] = size;
+            size *= cap + 1;
+        }
+        this.values = new int[size];
+
+        ScoringContext context = new ScoringContext(new SaladCardCounter());
+        int[] histogram = new int[ICardCounter.HISTOGRAM_SIZE];
+        for (int index = 0; index < size; index++) {
+            for (int d = 0; d < dependencies.length; d++) {
+                histogram[dependencies[d]] = (index / strides[d]) % (cap + 1);
+            }
+            context.reset(histogram);
+            values[index] = rule.evaluate(context);
+        }
+    }
+
+    /**
+     * Looks up the score of the rule for the hand held by the context.
+     * Falls back to evaluating the rule when it can't be tabulated or a count is out of range.
+     *
+     * @param context The scoring context for the hand
+     * @return The points awarded by the rule
+     */
+    public int evaluate(ScoringContext context) {
+        if (values == null) {
+            return rule.evaluate(context);
+        }
+        int index = 0;
+        for (int d = 0; d < dependencies.length; d++) {
+            int count = context.count(dependencies[d]);
+            if (count > cap) {
+                if (!saturated) {
+                    return rule.evaluate(context);
+                }
+                count = cap;
+            }
+            index += count * strides[d];
+        }
+        return values[index];
+    }
+
+    /**
+     * Gets the number of precomputed values in the table.
+     *
+     * @return The table size, or 0 if the rule is evaluated directly
+     */
+    public int size() {
+        return values == null ? 0 : values.length;
+    }
+}
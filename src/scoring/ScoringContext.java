@@ -0,0 +1,203 @@
+package scoring;
+
+import card.ICard;
+import card.ICardCounter;
+import player.IPlayer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds the state needed to evaluate compiled scoring rules for one hand.
+ * The vegetable histogram of the scored hand is built once per reset and shared
+ * by every rule. The highest and lowest opponent counts are computed on first use
+ * by a relative rule, or taken from precomputed PlayerAggregates.
+ * A context is reset for every score calculation and reused between calls.
+ */
+public class ScoringContext {
+    /**
+     * Index used for the total number of vegetables in a hand.
+     */
+    public static final int TOTAL = ICardCounter.TOTAL;
+
+    private final ICardCounter cardCounter;
+    private final int[] counts = new int[ICardCounter.HISTOGRAM_SIZE];
+    private final int[] opponentsMost = new int[ICardCounter.HISTOGRAM_SIZE];
+    private final int[] opponentsFewest = new int[ICardCounter.HISTOGRAM_SIZE];
+    private final int[] scratch = new int[ICardCounter.HISTOGRAM_SIZE];
+    private boolean opponentsCounted;
+    private IPlayer thisPlayer;
+    private ArrayList<IPlayer> players;
+
+    /**
+     * Constructs a new ScoringContext using the specified card counter.
+     *
+     * @param cardCounter The card counter utility to use
+     */
+    public ScoringContext(ICardCounter cardCounter) {
+        this.cardCounter = cardCounter;
+    }
+
+    /**
+     * Points the context at a new hand to score and counts its vegetables.
+     *
+     * @param hand The hand being scored
+     * @param thisPlayer The player being scored
+     * @param players All players in the game (for relative scoring)
+     */
+    public void reset(List<ICard> hand, IPlayer thisPlayer, ArrayList<IPlayer> players) {
+        cardCounter.countHistogram(hand, counts);
+        this.thisPlayer = thisPlayer;
+        this.players = players;
+        this.opponentsCounted = false;
+    }
+
+    /**
+     * Points the context at one player of precomputed table aggregates.
+     *
+     * @param aggregates Histograms and extremes of every player
+     * @param player Index of the player to score
+     */
+    public void reset(PlayerAggregates aggregates, int player) {
+        System.arraycopy(aggregates.getHistogram(player), 0, counts, 0, ICardCounter.HISTOGRAM_SIZE);
+        for (int i = 0; i < ICardCounter.HISTOGRAM_SIZE; i++) {
+            opponentsMost[i] = aggregates.opponentsMost(player, i);
+            opponentsFewest[i] = aggregates.opponentsFewest(player, i);
+        }
+        this.opponentsCounted = true;
+    }
+
+    /**
+     * Points the context at a synthetic vegetable histogram, without any opponents.
+     * Used to evaluate rules over count vectors rather than real hands.
+     *
+     * @param histogram The counts to score
+     */
+    void reset(int[] histogram) {
+        System.arraycopy(histogram, 0, counts, 0, ICardCounter.HISTOGRAM_SIZE);
+        for (int i = 0; i < ICardCounter.HISTOGRAM_SIZE; i++) {
+            opponentsMost[i] = Integer.MIN_VALUE;
+            opponentsFewest[i] = Integer.MAX_VALUE;
+        }
+        this.opponentsCounted = true;
+    }
+
+    /**
+     * Gets the number of vegetables of one type (or in total) in the scored hand.
+     *
+     * @param index The vegetable ordinal, or TOTAL for all vegetables
+     * @return Number of matching vegetable cards
+     */
+    public int count(int index) {
+        return counts[index];
+    }
+
+    /**
+     * Gets the live counts of the scored hand, for generated evaluators.
+     *
+     * @return The counts indexed by vegetable ordinal or TOTAL; not to be changed
+     */
+    int[] getCounts() {
+        return counts;
+    }
+
+    /**
+     * Counts a card as if it was added to the scored hand.
+     * Only cards with vegetable side up change the counts.
+     *
+     * @param card The card to count, may be null
+     */
+    public void add(ICard card) {
+        if (card != null && !card.getCriteriaSideUp()) {
+            addVegetable(card);
+        }
+    }
+
+    /**
+     * Counts a criteria card in the scored hand as if it was flipped to its vegetable side.
+     *
+     * @param card The criteria card to count
+     */
+    public void flip(ICard card) {
+        addVegetable(card);
+    }
+
+    /**
+     * Undoes add: stops counting a card that was counted as added to the scored hand.
+     *
+     * @param card The card that was added, may be null
+     */
+    public void remove(ICard card) {
+        if (card != null && !card.getCriteriaSideUp()) {
+            if (card.getVegetable() != null) {
+                counts[card.getVegetable().ordinal()]--;
+            }
+            counts[TOTAL]--;
+        }
+    }
+
+    /**
+     * Undoes flip: counts a criteria card of the scored hand by its criteria side again.
+     *
+     * @param card The card that was flipped
+     */
+    public void unflip(ICard card) {
+        if (card.getVegetable() != null) {
+            counts[card.getVegetable().ordinal()]--;
+        }
+        counts[TOTAL]--;
+    }
+
+    private void addVegetable(ICard card) {
+        if (card.getVegetable() != null) {
+            counts[card.getVegetable().ordinal()]++;
+        }
+        counts[TOTAL]++;
+    }
+
+    /**
+     * Checks if the scored hand has at least as many vegetables as every other player.
+     *
+     * @param index The vegetable ordinal, or TOTAL for all vegetables
+     * @return true if no other player has more
+     */
+    public boolean isMost(int index) {
+        countOpponents();
+        return counts[index] >= opponentsMost[index];
+    }
+
+    /**
+     * Checks if the scored hand has at most as many vegetables as every other player.
+     *
+     * @param index The vegetable ordinal, or TOTAL for all vegetables
+     * @return true if no other player has fewer
+     */
+    public boolean isFewest(int index) {
+        countOpponents();
+        return counts[index] <= opponentsFewest[index];
+    }
+
+    /**
+     * Finds the highest and lowest counts among the other players once per reset.
+     */
+    private void countOpponents() {
+        if (opponentsCounted) {
+            return;
+        }
+        for (int i = 0; i < ICardCounter.HISTOGRAM_SIZE; i++) {
+            opponentsMost[i] = Integer.MIN_VALUE;
+            opponentsFewest[i] = Integer.MAX_VALUE;
+        }
+        for (int p = 0; p < players.size(); p++) {
+            IPlayer player = players.get(p);
+            if (player.getPlayerID() != thisPlayer.getPlayerID()) {
+                cardCounter.countHistogram(player.getHand(), scratch);
+                for (int i = 0; i < ICardCounter.HISTOGRAM_SIZE; i++) {
+                    opponentsMost[i] = Math.max(opponentsMost[i], scratch[i]);
+                    opponentsFewest[i] = Math.min(opponentsFewest[i], scratch[i]);
+                }
+            }
+        }
+        opponentsCounted = true;
+    }
+}
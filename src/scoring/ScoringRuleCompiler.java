@@ -0,0 +1,172 @@
+package scoring;
+
+import card.Vegetable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compiles criteria text from the card manifest into scoring rules.
+ * Each distinct criteria string is parsed only once and the compiled rule is shared.
+ */
+public class ScoringRuleCompiler {
+    private static final ConcurrentHashMap<String, IScoringRule> cache = new ConcurrentHashMap<>();
+    private static final AtomicInteger ruleIds = new AtomicInteger();
+
+    private ScoringRuleCompiler() {
+    }
+
+    /**
+     * Gets the compiled rule for a criteria text, compiling it on first use.
+     *
+     * @param criteria The scoring criteria text, may be null
+     * @return The compiled rule (IScoringRule.NONE if the text has no scorable criteria)
+     */
+    public static IScoringRule compile(String criteria) {
+        if (criteria == null) {
+            return IScoringRule.NONE;
+        }
+        return cache.computeIfAbsent(criteria, ScoringRuleCompiler::parse);
+    }
+
+    /**
+     * Gets every rule compiled so far.
+     *
+     * @return Read-only view of the compiled rules
+     */
+    public static Collection<IScoringRule> getCompiledRules() {
+        return Collections.unmodifiableCollection(cache.values());
+    }
+
+    /**
+     * Hands out the id of a newly built rule.
+     *
+     * @return The next unused rule id
+     */
+    static int nextRuleId() {
+        return ruleIds.getAndIncrement();
+    }
+
+    /**
+     * Turns the dependencies of a rule into bits indexed by vegetable ordinal.
+     *
+     * @param dependencies The vegetable ordinals, or null
+     * @return The dependency bits, or -1 for null dependencies
+     */
+    static int dependencyMask(int[] dependencies) {
+        if (dependencies == null) {
+            return -1;
+        }
+        int mask = 0;
+        for (int dependency : dependencies) {
+            mask |= 1 << dependency;
+        }
+        return mask;
+    }
+
+    /**
+     * Parses a criteria text into a rule, following the same dispatch as the original scoring.
+     *
+     * @param criteria The scoring criteria text
+     * @return The compiled rule
+     */
+    private static IScoringRule parse(String criteria) {
+        String[] parts = criteria.split(",");
+        ArrayList<IScoringRule> rules = new ArrayList<>();
+
+        if (criteria.contains("TOTAL") || criteria.contains("TYPE") || criteria.contains("SET")) {
+            if (criteria.contains("TOTAL")) {
+                rules.add(new MostFewestRule(ScoringContext.TOTAL, criteria.contains("MOST"),
+                        criteria.contains("FEWEST"), pointsAfterEquals(criteria)));
+            }
+            if (criteria.contains("TYPE")) {
+                rules.add(parseType(criteria));
+            }
+            if (criteria.contains("SET")) {
+                rules.add(new CompleteSetRule(12));
+            }
+        } else if (criteria.contains("MOST") || criteria.contains("FEWEST")) {
+            int vegIndex = criteria.indexOf("MOST") >= 0 ? criteria.indexOf("MOST") + 5 : criteria.indexOf("FEWEST") + 7;
+            String veg = criteria.substring(vegIndex, criteria.indexOf("=")).trim();
+            rules.add(new MostFewestRule(vegetable(veg), criteria.contains("MOST"),
+                    !criteria.contains("MOST"), pointsAfterEquals(criteria)));
+        } else if (parts.length > 1 || criteria.contains("+") || parts[0].contains("/")) {
+            if (criteria.contains("+")) {
+                rules.add(parsePlus(criteria));
+            }
+            if (criteria.contains("EVEN") || criteria.contains("ODD")) {
+                rules.add(parseEvenOdd(parts));
+            }
+            if (criteria.contains("/")) {
+                rules.add(parseSlash(parts));
+            }
+        }
+
+        if (rules.isEmpty()) {
+            return IScoringRule.NONE;
+        }
+        if (rules.size() == 1) {
+            return rules.get(0);
+        }
+        return new CompositeRule(rules.toArray(new IScoringRule[0]));
+    }
+
+    private static IScoringRule parseType(String criteria) {
+        String[] expr = criteria.split("/");
+        int addScore = Integer.parseInt(expr[0].trim());
+        if (expr[1].contains("MISSING")) {
+            return new VegetableTypeRule(addScore, true, 0);
+        }
+        int atLeast = Integer.parseInt(expr[1].substring(expr[1].indexOf(">=") + 2).trim());
+        return new VegetableTypeRule(addScore, false, atLeast);
+    }
+
+    private static IScoringRule parsePlus(String criteria) {
+        String[] vegs = criteria.split("=")[0].trim().split("\\+");
+        int[] vegetables = new int[vegs.length];
+        int sameKind = 1;
+        for (int i = 0; i < vegs.length; i++) {
+            vegetables[i] = vegetable(vegs[i]);
+            if (i > 0 && vegs[0].trim().equals(vegs[i].trim())) {
+                sameKind++;
+            }
+        }
+        return new PlusRule(vegetables, sameKind, Integer.parseInt(criteria.split("=")[1].trim()));
+    }
+
+    private static IScoringRule parseEvenOdd(String[] parts) {
+        int vegetable = vegetable(parts[0].substring(0, parts[0].indexOf(":")));
+        int evenPoints = 7;
+        int oddPoints = 3;
+        for (String part : parts) {
+            if (part.contains("EVEN=")) {
+                evenPoints = Integer.parseInt(part.substring(part.indexOf("EVEN=") + 5).trim());
+            } else if (part.contains("ODD=")) {
+                oddPoints = Integer.parseInt(part.substring(part.indexOf("ODD=") + 4).trim());
+            }
+        }
+        return new EvenOddRule(vegetable, evenPoints, oddPoints);
+    }
+
+    private static IScoringRule parseSlash(String[] parts) {
+        int[] weights = new int[parts.length];
+        int[] vegetables = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            String[] veg = parts[i].split("/");
+            weights[i] = Integer.parseInt(veg[0].trim());
+            vegetables[i] = vegetable(veg[1]);
+        }
+        return new SlashRule(weights, vegetables);
+    }
+
+    private static int pointsAfterEquals(String criteria) {
+        return Integer.parseInt(criteria.substring(criteria.indexOf("=") + 1).trim());
+    }
+
+    private static int vegetable(String name) {
+        return Vegetable.valueOf(name.trim()).ordinal();
+    }
+}
@@ -0,0 +1,95 @@
+package scoring;
+
+import java.util.Arrays;
+
+/**
+ * Compiled "/" criteria (points per vegetable), as a weighted sum of vegetable counts.
+ */
+public class SlashRule implements IScoringRule {
+    private final int id = ScoringRuleCompiler.nextRuleId();
+    private final int[] weights;
+    private final int[] vegetables;
+    private final int[] dependencies;
+    private final int dependencyMask;
+
+    /**
+     * Constructs a new SlashRule.
+     *
+     * @param weights Points per vegetable for each term
+     * @param vegetables Vegetable ordinal for each term
+     */
+    public SlashRule(int[] weights, int[] vegetables) {
+        this.weights = weights;
+        this.vegetables = vegetables;
+        this.dependencies = Arrays.stream(vegetables).distinct().toArray();
+        this.dependencyMask = ScoringRuleCompiler.dependencyMask(getDependencies());
+    }
+
+    /**
+     * Sums the weighted vegetable counts.
+     *
+     * @param context The scoring context
+     * @return The points awarded
+     */
+    public int evaluate(ScoringContext context) {
+        int score = 0;
+        for (int i = 0; i < vegetables.length; i++) {
+            score += weights[i] * context.count(vegetables[i]);
+        }
+        return score;
+    }
+
+    /**
+     * Gets the id of the rule.
+     *
+     * @return The rule id, unique in the JVM
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the vegetables the score depends on.
+     *
+     * @return The distinct vegetables of all terms
+     */
+    public int[] getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Gets the dependencies as bits, computed once when the rule is built.
+     *
+     * @return The bits of the vegetables of all terms
+     */
+    public int getDependencyMask() {
+        return dependencyMask;
+    }
+
+    /**
+     * Gets the count from which the score no longer changes.
+     *
+     * @return Integer.MAX_VALUE, since the score keeps changing
+     */
+    public int getSaturation() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Gets the points per vegetable of each term.
+     *
+     * @return The points per vegetable of each term
+     */
+    int[] getWeights() {
+        return weights;
+    }
+
+    /**
+     * Gets the vegetable ordinal of each term.
+     *
+     * @return The vegetable ordinal of each term
+     */
+    int[] getVegetables() {
+        return vegetables;
+    }
+}
@@ -0,0 +1,109 @@
+package scoring;
+
+import card.ICardCounter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Table-driven score calculator for simulation and search workloads.
+ * Every compiled rule is precomputed over the reachable vegetable counts, so evaluating
+ * a criteria card is a few array lookups. Relative criteria (MOST / FEWEST) are
+ * still evaluated as comparisons against the opponent extremes.
+ * The tables are indexed by rule id, so finding them never hashes, and are shared
+ * read-only by all instances and threads.
+ * Extends SaladScoreCalc, which handles the hand counting and opponent aggregates.
+ */
+public class TableScoreCalc extends SaladScoreCalc {
+    /**
+     * Largest count of a single vegetable that is tabulated.
+     * Matches the largest number of cards per vegetable dealt for six players.
+     */
+    public static final int MAX_COUNT = 18;
+
+    private static volatile ScoreTable[][] tables = new ScoreTable[0][];
+
+    /**
+     * Constructs a new TableScoreCalc and precomputes the tables of all rules compiled so far.
+     *
+     * @param cardCounter The card counter utility to use
+     */
+    public TableScoreCalc(ICardCounter cardCounter) {
+        super(cardCounter);
+        for (IScoringRule rule : ScoringRuleCompiler.getCompiledRules()) {
+            tablesFor(rule);
+        }
+    }
+
+    /**
+     * Evaluates a compiled rule by looking up its precomputed tables.
+     *
+     * @param rule The compiled rule of a criteria card
+     * @param context The scoring context for the hand
+     * @return The points awarded by the rule
+     */
+    @Override
+    protected int evaluate(IScoringRule rule, ScoringContext context) {
+        ScoreTable[] ruleTables = tablesFor(rule);
+        int score = 0;
+        for (int i = 0; i < ruleTables.length; i++) {
+            score += ruleTables[i].evaluate(context);
+        }
+        return score;
+    }
+
+    /**
+     * Gets the tables of a rule, building them on first use.
+     *
+     * @param rule The compiled rule
+     * @return One table per scoring part of the rule
+     */
+    private static ScoreTable[] tablesFor(IScoringRule rule) {
+        ScoreTable[][] all = tables;
+        int id = rule.getId();
+        if (id < all.length && all[id] != null) {
+            return all[id];
+        }
+        return publishTables(rule);
+    }
+
+    /**
+     * Builds the tables of a rule under the class lock, unless another thread just built them,
+     * and publishes them in a new copy of the id-indexed array.
+     *
+     * @param rule The compiled rule
+     * @return One table per scoring part of the rule
+     */
+    private static synchronized ScoreTable[] publishTables(IScoringRule rule) {
+        int id = rule.getId();
+        if (id < tables.length && tables[id] != null) {
+            return tables[id];
+        }
+        ScoreTable[][] grown = Arrays.copyOf(tables, Math.max(tables.length, id + 1));
+        grown[id] = tabulate(rule);
+        tables = grown;
+        return grown[id];
+    }
+
+    /**
+     * Builds the tables of a rule, with one table per child of composite rules.
+     *
+     * @param rule The compiled rule
+     * @return The built tables
+     */
+    private static ScoreTable[] tabulate(IScoringRule rule) {
+        ArrayList<ScoreTable> parts = new ArrayList<>();
+        addTables(rule, parts);
+        return parts.toArray(new ScoreTable[0]);
+    }
+
+    private static void addTables(IScoringRule rule, ArrayList<ScoreTable> parts) {
+        if (rule instanceof CompositeRule) {
+            for (IScoringRule child : ((CompositeRule) rule).getRules()) {
+                addTables(child, parts);
+            }
+        } else {
+            parts.add(new ScoreTable(rule, MAX_COUNT));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package scoring;
+
+import card.ICardCounter;
+
+/**
+ * Vegetable counts of a batch of hands in columnar form: one primitive column per
+ * vegetable plus one for the total, with one row per hand.
+ * Optional opponent columns hold the highest and lowest counts among each hand's
+ * opponents for relative criteria; without them hands are scored as if alone.
+ */
+public class VegetableColumns {
+    private final int[][] counts;
+    private int[][] opponentsMost;
+    private int[][] opponentsFewest;
+    private int size;
+
+    /**
+     * Constructs new empty columns for up to capacity hands.
+     *
+     * @param capacity The largest number of hands in a batch
+     */
+    public VegetableColumns(int capacity) {
+        this.counts = new int[ICardCounter.HISTOGRAM_SIZE][capacity];
+    }
+
+    /**
+     * Adds opponent columns so relative criteria can be scored.
+     *
+     * @return This instance
+     */
+    public VegetableColumns withOpponents() {
+        int capacity = getCapacity();
+        this.opponentsMost = new int[ICardCounter.HISTOGRAM_SIZE][capacity];
+        this.opponentsFewest = new int[ICardCounter.HISTOGRAM_SIZE][capacity];
+        return this;
+    }
+
+    /**
+     * Gets the column of one vegetable, or of the totals, to read or fill directly.
+     *
+     * @param index The vegetable ordinal, or ICardCounter.TOTAL
+     * @return The column, indexed by hand
+     */
+    public int[] getColumn(int index) {
+        return counts[index];
+    }
+
+    /**
+     * Gets the highest opponent counts of one vegetable, or null without opponent columns.
+     *
+     * @param index The vegetable ordinal, or ICardCounter.TOTAL
+     * @return The column, indexed by hand
+     */
+    public int[] getOpponentsMostColumn(int index) {
+        return opponentsMost == null ? null : opponentsMost[index];
+    }
+
+    /**
+     * Gets the lowest opponent counts of one vegetable, or null without opponent columns.
+     *
+     * @param index The vegetable ordinal, or ICardCounter.TOTAL
+     * @return The column, indexed by hand
+     */
+    public int[] getOpponentsFewestColumn(int index) {
+        return opponentsFewest == null ? null : opponentsFewest[index];
+    }
+
+    /**
+     * Copies one hand's histogram into a row and recomputes its total.
+     *
+     * @param row The row to fill
+     * @param histogram Counts per vegetable ordinal (the total entry is ignored)
+     */
+    public void setRow(int row, int[] histogram) {
+        int total = 0;
+        for (int v = 0; v < ICardCounter.TOTAL; v++) {
+            counts[v][row] = histogram[v];
+            total += histogram[v];
+        }
+        counts[ICardCounter.TOTAL][row] = total;
+    }
+
+    /**
+     * Sets the opponent extremes of one hand.
+     *
+     * @param row The row to fill
+     * @param index The vegetable ordinal, or ICardCounter.TOTAL
+     * @param most The highest count among the hand's opponents
+     * @param fewest The lowest count among the hand's opponents
+     */
+    public void setOpponents(int row, int index, int most, int fewest) {
+        opponentsMost[index][row] = most;
+        opponentsFewest[index][row] = fewest;
+    }
+
+    /**
+     * Fills one row per player from table aggregates, with opponent columns, and sets the batch size.
+     *
+     * @param aggregates Histograms and extremes of every player
+     */
+    public void setRows(PlayerAggregates aggregates) {
+        if (opponentsMost == null) {
+            withOpponents();
+        }
+        setSize(aggregates.getPlayerCount());
+        for (int p = 0; p < size; p++) {
+            setRow(p, aggregates.getHistogram(p));
+            for (int i = 0; i < ICardCounter.HISTOGRAM_SIZE; i++) {
+                setOpponents(p, i, aggregates.opponentsMost(p, i), aggregates.opponentsFewest(p, i));
+            }
+        }
+    }
+
+    /**
+     * Gets the number of hands in the batch.
+     *
+     * @return The batch size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sets the number of hands in the batch.
+     *
+     * @param size The batch size, at most the capacity
+     */
+    public void setSize(int size) {
+        if (size < 0 || size > getCapacity()) {
+            throw new IndexOutOfBoundsException("Batch size " + size + " exceeds capacity " + getCapacity());
+        }
+        this.size = size;
+    }
+
+    /**
+     * Gets the largest number of hands the columns can hold.
+     *
+     * @return The capacity
+     */
+    public int getCapacity() {
+        return counts[0].length;
+    }
+}
@@ -0,0 +1,108 @@
+package scoring;
+
+/**
+ * Compiled "VEGETABLE TYPE" criteria.
+ * Scores per vegetable type held at least a given number of times,
+ * or per vegetable type missing from the hand.
+ */
+public class VegetableTypeRule implements IScoringRule {
+    private final int id = ScoringRuleCompiler.nextRuleId();
+    private final int pointsPerType;
+    private final boolean missing;
+    private final int atLeast;
+    private final int dependencyMask;
+
+    /**
+     * Constructs a new VegetableTypeRule.
+     *
+     * @param pointsPerType Points awarded per qualifying vegetable type
+     * @param missing true to count missing types instead of held types
+     * @param atLeast Minimum count for a held type to qualify (ignored when counting missing types)
+     */
+    public VegetableTypeRule(int pointsPerType, boolean missing, int atLeast) {
+        this.pointsPerType = pointsPerType;
+        this.missing = missing;
+        this.atLeast = atLeast;
+        this.dependencyMask = ScoringRuleCompiler.dependencyMask(getDependencies());
+    }
+
+    /**
+     * Counts the qualifying vegetable types and scores them.
+     *
+     * @param context The scoring context
+     * @return The points awarded
+     */
+    public int evaluate(ScoringContext context) {
+        int types = 0;
+        for (int v = 0; v < ScoringContext.TOTAL; v++) {
+            int count = context.count(v);
+            if (missing ? count == 0 : count >= atLeast) {
+                types++;
+            }
+        }
+        return types * pointsPerType;
+    }
+
+    /**
+     * Gets the id of the rule.
+     *
+     * @return The rule id, unique in the JVM
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the vegetables the score depends on.
+     *
+     * @return All vegetable ordinals
+     */
+    public int[] getDependencies() {
+        return new int[] {0, 1, 2, 3, 4, 5};
+    }
+
+    /**
+     * Gets the dependencies as bits, computed once when the rule is built.
+     *
+     * @return The bits of every vegetable
+     */
+    public int getDependencyMask() {
+        return dependencyMask;
+    }
+
+    /**
+     * Gets the count from which the score no longer changes.
+     *
+     * @return 1 when counting missing types, otherwise the minimum count per type
+     */
+    public int getSaturation() {
+        return missing ? 1 : atLeast;
+    }
+
+    /**
+     * Gets the points per qualifying type.
+     *
+     * @return The points per qualifying type
+     */
+    int getPointsPerType() {
+        return pointsPerType;
+    }
+
+    /**
+     * Gets whether missing types are counted.
+     *
+     * @return Whether missing types are counted
+     */
+    boolean isMissing() {
+        return missing;
+    }
+
+    /**
+     * Gets the minimum count per held type.
+     *
+     * @return The minimum count per held type
+     */
+    int getAtLeast() {
+        return atLeast;
+    }
+}
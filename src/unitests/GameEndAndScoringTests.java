@@ -3,6 +3,14 @@ package unitests;
 import card.ICard;
 import card.SaladCard;
 import card.Vegetable;
+import engine.GameConfig;
+import engine.GameResult;
+import engine.HeadlessEngine;
+import engine.HeadlessGame;
+import engine.PackedGameState;
+import engine.SelfPlayRunner;
+import engine.SelfPlayStats;
+import game.SaladBotStrategy;
 import game.SaladGame;
 import game.SaladGameLoop;
 import game.SaladResultHandler;
@@ -10,13 +18,25 @@ import org.junit.jupiter.api.Test;
 import piles.IPile;
 import player.HumanPlayer;
 import player.IPlayer;
+import scoring.BatchScorer;
+import scoring.GeneratedScoreCalc;
+import scoring.IScoringRule;
+import scoring.PlayerAggregates;
+import scoring.ScoringContext;
+import scoring.SaladScoreCalc;
+import scoring.TableScoreCalc;
+import scoring.VegetableColumns;
+import piles.SaladPileInitializer;
+import card.SaladCardCounter;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -143,4 +163,237 @@ public class GameEndAndScoringTests {
             System.setOut(originalOut);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests Rule 13: Each criteria family is scored from its compiled rule.
+     */
+    @Test
+    public void testCompiledCriteriaScoring() {
+        IPlayer player = new HumanPlayer(0, false, false, null, null, null);
+        IPlayer opponent = new HumanPlayer(1, false, false, null, null, null);
+        ArrayList<IPlayer> players = new ArrayList<>(Arrays.asList(player, opponent));
+        addVeggies(player, Vegetable.PEPPER, 3);
+        addVeggies(player, Vegetable.LETTUCE, 2);
+        addVeggies(player, Vegetable.CARROT, 1);
+        addVeggies(player, Vegetable.ONION, 4);
+        addVeggies(opponent, Vegetable.ONION, 1);
+        addVeggies(opponent, Vegetable.TOMATO, 4);
+
+        assertEquals(2, scoreCriteria("2/LETTUCE,  1/ONION,  -2/PEPPER", player, players));
+        assertEquals(7, scoreCriteria("LETTUCE: EVEN=7, ODD=3", player, players));
+        assertEquals(8, scoreCriteria("ONION + ONION + ONION = 8", player, players));
+        assertEquals(8, scoreCriteria("LETTUCE + PEPPER + CARROT = 8", player, players));
+        assertEquals(10, scoreCriteria("5 / MISSING VEGETABLE TYPE", player, players));
+        assertEquals(9, scoreCriteria("3 / VEGETABLE TYPE >=2", player, players));
+        assertEquals(0, scoreCriteria("COMPLETE SET = 12", player, players));
+        assertEquals(10, scoreCriteria("MOST TOTAL VEGETABLE = 10", player, players));
+        assertEquals(0, scoreCriteria("FEWEST ONION = 7", player, players));
+        assertEquals(7, scoreCriteria("FEWEST TOMATO = 7", player, players));
+    }
+
+    /**
+     * Tests Rule 13: Score deltas match rescoring the hand with the extra cards.
+     */
+    @Test
+    public void testScoreDeltaMatchesFullRescore() {
+        IPlayer player = new HumanPlayer(0, false, false, null, null, null);
+        ArrayList<IPlayer> players = new ArrayList<>(Arrays.asList(player));
+        SaladScoreCalc calculator = new SaladScoreCalc(new SaladCardCounter());
+        SaladCard criteriaCard = new SaladCard(Vegetable.ONION, "2 / CARROT");
+        player.getHand().add(criteriaCard);
+        addVeggies(player, Vegetable.CARROT, 2);
+
+        SaladCard carrot = new SaladCard(Vegetable.CARROT, null);
+        carrot.setCriteriaSideUp(false);
+        SaladCard pointCard = new SaladCard(Vegetable.PEPPER, "3 / CARROT");
+        int before = calculator.calculateScore(player.getHand(), player, players);
+
+        assertEquals(4, before);
+        assertEquals(2 + 9, calculator.scoreDelta(player.getHand(), player, players, carrot, pointCard));
+        assertEquals(-4, calculator.flipDelta(player.getHand(), player, players, criteriaCard));
+        assertEquals(before, calculator.calculateScore(player.getHand(), player, players),
+                "Delta scoring should not change the hand");
+    }
+
+    /**
+     * Tests Rule 13: The best flip after taking a card is found without changing the hand.
+     */
+    @Test
+    public void testBestFlipAfterTakingCard() {
+        IPlayer player = new HumanPlayer(0, false, false, null, null, null);
+        ArrayList<IPlayer> players = new ArrayList<>(Arrays.asList(player));
+        SaladScoreCalc calculator = new SaladScoreCalc(new SaladCardCounter());
+        SaladCard pepperScorer = new SaladCard(Vegetable.CARROT, "5 / PEPPER");
+        SaladCard carrotScorer = new SaladCard(Vegetable.PEPPER, "3 / CARROT");
+        player.getHand().add(pepperScorer);
+        player.getHand().add(carrotScorer);
+        SaladCard pepper = new SaladCard(Vegetable.PEPPER, "2 / ONION");
+        pepper.setCriteriaSideUp(false);
+
+        int[] deltas = new int[1];
+        ICard[] flips = new ICard[1];
+        calculator.scoreDeltasWithFlip(player.getHand(), player, players, new ICard[]{pepper}, new ICard[1], 1,
+                deltas, flips);
+        assertEquals(10, deltas[0], "Flipping the carrot scorer should make two peppers for the pepper scorer");
+        assertSame(carrotScorer, flips[0]);
+        assertTrue(carrotScorer.getCriteriaSideUp(), "Scoring the flip should not flip the card");
+
+        player.getHand().add(pepper);
+        carrotScorer.setCriteriaSideUp(false);
+        assertEquals(10, calculator.calculateScore(player.getHand(), player, players));
+    }
+
+    /**
+     * Tests that a headless bot game runs to the end and is reproducible from its seed.
+     */
+    @Test
+    void testHeadlessGameIsReproducible() throws IOException {
+        GameConfig config = new GameConfig(7, new SaladBotStrategy(), new SaladBotStrategy(), new SaladBotStrategy());
+        GameResult first = new HeadlessEngine().play(config);
+        GameResult second = new HeadlessEngine().play(config);
+
+        assertEquals(first.getMoveCount(), second.getMoveCount());
+        for (int i = 0; i < first.getMoveCount(); i++) {
+            assertEquals(first.getMove(i), second.getMove(i));
+            assertEquals(first.getMoveSeat(i), second.getMoveSeat(i));
+        }
+
+        int cards = 0;
+        for (int seat = 0; seat < first.getPlayerCount(); seat++) {
+            assertEquals(first.getScore(seat), second.getScore(seat));
+            cards += first.getHand(seat).size();
+        }
+        assertFalse(first.isStalled(), "The seed 7 game should end with every pile empty");
+        assertEquals(54, cards, "Every card should be taken in a 3 player game");
+    }
+
+    /**
+     * Tests that a packed copy of a game plays and scores the same moves like the game itself.
+     */
+    @Test
+    void testPackedGameStateFollowsGame() throws IOException {
+        HeadlessGame game = new HeadlessGame(new GameConfig(21, new SaladBotStrategy(), new SaladBotStrategy(),
+                new SaladBotStrategy()));
+        PackedGameState state = new PackedGameState(game, 0);
+        SplittableRandom random = new SplittableRandom(4);
+        int[] moves = new int[state.getMaxMoves()];
+
+        while (!state.isOver()) {
+            assertTrue(game.hasCardsLeft());
+            int count = state.legalMoves(moves);
+            int move = moves[random.nextInt(count)];
+            IPlayer player = game.getPlayers().get(state.getCurrentSeat());
+            PackedGameState.toGameMove(move, state.getPileCount()).applyTo(game, player);
+            state.play(move);
+        }
+        assertFalse(game.hasCardsLeft());
+
+        int[] scores = state.score(new ScoringContext(new SaladCardCounter()),
+                new PlayerAggregates(new SaladCardCounter()), new int[3]);
+        assertArrayEquals(game.getScoreCalculator().scoreAll(game.getPlayers()), scores);
+    }
+
+    /**
+     * Tests that the points attributed to each criteria card add up to the final score.
+     */
+    @Test
+    void testCriteriaPointsAddUpToScore() throws IOException {
+        GameConfig config = new GameConfig(3, new SaladBotStrategy(), new SaladBotStrategy(), new SaladBotStrategy(),
+                new SaladBotStrategy());
+        GameResult result = new HeadlessEngine().play(config);
+
+        for (int seat = 0; seat < result.getPlayerCount(); seat++) {
+            int points = 0;
+            for (int i = 0; i < result.getHand(seat).getCriteriaCards().size(); i++) {
+                points += result.getCriteriaPoints(seat, i);
+            }
+            assertEquals(result.getScore(seat), points);
+        }
+    }
+
+    /**
+     * Tests that a parallel self-play run counts the same games as a sequential one.
+     */
+    @Test
+    void testSelfPlayRunIsIndependentOfParallelism() throws IOException {
+        GameConfig config = new GameConfig(11, new SaladBotStrategy(), new SaladBotStrategy());
+        SelfPlayStats sequential = new SelfPlayRunner(1).run(config, 200, true);
+        SelfPlayStats parallel = new SelfPlayRunner(3).run(config, 200, true);
+
+        assertEquals(200, parallel.getGames());
+        assertEquals(sequential.getSeatWins(0), parallel.getSeatWins(0));
+        assertEquals(sequential.getSeatWins(1), parallel.getSeatWins(1));
+        StringWriter first = new StringWriter();
+        StringWriter second = new StringWriter();
+        sequential.writeCsv(first);
+        parallel.writeCsv(second);
+        assertEquals(first.toString(), second.toString());
+    }
+
+    /**
+     * Tests that a self-play run labels the strategies with the bot names they were parsed from.
+     */
+    @Test
+    void testSelfPlayRunLabelsStrategiesByName() throws IOException {
+        SelfPlayStats stats = new SelfPlayRunner(1).run(GameConfig.parse(13, "greedy,greedy-noflip", 2), 4, true);
+        StringWriter csv = new StringWriter();
+        stats.writeCsv(csv);
+
+        assertTrue(csv.toString().contains("strategy,\"greedy\","));
+        assertTrue(csv.toString().contains("strategy,\"greedy-noflip\","));
+    }
+
+    /**
+     * Tests Rule 13: The table-driven and generated calculators score like the rule-based calculator.
+     */
+    @Test
+    public void testAlternativeScoreCalcsMatchSaladScoreCalc() throws IOException {
+        IPlayer player = new HumanPlayer(0, false, false, null, null, null);
+        IPlayer opponent = new HumanPlayer(1, false, false, null, null, null);
+        ArrayList<IPlayer> players = new ArrayList<>(Arrays.asList(player, opponent));
+        int dealt = 0;
+        for (IPile pile : new SaladPileInitializer(6).getPiles()) {
+            for (ICard card : pile.getCards()) {
+                card.setCriteriaSideUp(dealt % 3 != 0);
+                players.get(dealt % 2).getHand().add(card);
+                dealt++;
+            }
+        }
+
+        int[] expected = new SaladScoreCalc(new SaladCardCounter()).scoreAll(players);
+        assertArrayEquals(expected, new TableScoreCalc(new SaladCardCounter()).scoreAll(players));
+        assertArrayEquals(expected, new GeneratedScoreCalc(new SaladCardCounter()).scoreAll(players));
+
+        PlayerAggregates aggregates = new PlayerAggregates(new SaladCardCounter());
+        aggregates.update(players);
+        VegetableColumns columns = new VegetableColumns(players.size());
+        columns.setRows(aggregates);
+        int[] batch = new int[players.size()];
+        for (int p = 0; p < players.size(); p++) {
+            ArrayList<IScoringRule> rules = new ArrayList<>();
+            for (ICard card : players.get(p).getHand().getCriteriaCards()) {
+                rules.add(card.getScoringRule());
+            }
+            new BatchScorer().score(rules.toArray(new IScoringRule[0]), columns, batch);
+            assertEquals(expected[p], batch[p]);
+        }
+    }
+
+    private void addVeggies(IPlayer player, Vegetable vegetable, int count) {
+        for (int i = 0; i < count; i++) {
+            SaladCard card = new SaladCard(vegetable, null);
+            card.setCriteriaSideUp(false);
+            player.getHand().add(card);
+        }
+    }
+
+    private int scoreCriteria(String criteria, IPlayer player, ArrayList<IPlayer> players) {
+        SaladCard criteriaCard = new SaladCard(Vegetable.CABBAGE, criteria);
+        player.getHand().add(criteriaCard);
+        try {
+            return new SaladScoreCalc(new SaladCardCounter()).calculateScore(player.getHand(), player, players);
+        } finally {
+            player.getHand().remove(criteriaCard);
+        }
+    }
+}
@@ -1,18 +1,32 @@
 package unitests;
 
+import card.CardCatalog;
 import card.ICard;
 import card.SaladCard;
 import card.Vegetable;
+import engine.GameConfig;
+import engine.SaladExpectimaxBotStrategy;
+import engine.SaladMctsBotStrategy;
+import game.BotDecision;
+import game.GameMove;
+import game.SaladBotTurnHandler;
 import game.SaladGame;
+import game.SaladGreedyBotStrategy;
 import game.SaladUtils;
 import org.junit.jupiter.api.Test;
+import piles.CardDeque;
 import piles.IPile;
+import piles.PileGroup;
 import piles.SaladPileInitializer;
 import player.HumanPlayer;
 import player.IPlayer;
+import scoring.IScoreCalculator;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -116,6 +130,90 @@ public class GameSetupAndTurnTests {
         assertFalse(handDisplay.contains("TOTAL VEGETABLES=5"), "Criteria should remain hidden");
     }
 
+    /**
+     * Tests Rule 8: Hand counts follow added, removed and flipped cards.
+     */
+    @Test
+    void testHandCountsFollowAddRemoveAndFlip() {
+        IPlayer player = new HumanPlayer(1, false, false, null, null, null);
+        SaladCard criteriaCard = new SaladCard(Vegetable.PEPPER, "MOST PEPPER = 10");
+        SaladCard veggieCard = new SaladCard(Vegetable.PEPPER, "2 / CARROT");
+        veggieCard.setCriteriaSideUp(false);
+        player.getHand().add(criteriaCard);
+        player.getHand().add(veggieCard);
+        long version = player.getHand().getVersion();
+
+        assertEquals(1, player.getHand().countVegetables(Vegetable.PEPPER));
+        assertEquals(1, player.getHand().getCriteriaCards().size());
+
+        criteriaCard.setCriteriaSideUp(false);
+        assertEquals(2, player.getHand().countVegetables(Vegetable.PEPPER));
+        assertTrue(player.getHand().getCriteriaCards().isEmpty());
+        assertTrue(player.getHand().getVersion() > version, "Flipping should change the hand version");
+
+        player.getHand().remove(veggieCard);
+        assertEquals(1, player.getHand().countTotalVegetables());
+
+        veggieCard.setCriteriaSideUp(true);
+        assertEquals(1, player.getHand().countTotalVegetables(), "Removed cards should no longer update the hand");
+    }
+
+    /**
+     * Tests Rule 6: A pile's card stack keeps list order while drawing from both ends.
+     */
+    @Test
+    void testPileStackDrawsFromTopAndBottom() {
+        ArrayList<ICard> expected = new ArrayList<>();
+        CardDeque deque = new CardDeque(2);
+        for (int i = 0; i < 40; i++) {
+            ICard card = new SaladCard(Vegetable.values()[i % 6], "Card " + i);
+            int index = (i * 7) % (expected.size() + 1);
+            expected.add(index, card);
+            deque.add(index, card);
+            if (i % 5 == 4) {
+                assertSame(expected.remove(0), deque.remove(0));
+                assertSame(expected.remove(expected.size() - 1), deque.remove(deque.size() - 1));
+                assertSame(expected.remove(expected.size() / 2), deque.remove(deque.size() / 2));
+            }
+        }
+        assertEquals(expected, deque);
+
+        deque.clear();
+        assertTrue(deque.isEmpty());
+    }
+
+    /**
+     * Tests Rule 6: The pile group always refills from the largest other pile, for any pile count.
+     */
+    @Test
+    void testPileGroupFindsLargestOtherPile() throws IOException {
+        PileGroup group = new SaladPileInitializer(6, CardCatalog.getDefault(), 5, new SplittableRandom(5)).getPileGroup();
+        ArrayList<IPile> piles = group.getPiles();
+        assertEquals(5, piles.size());
+
+        for (int step = 0; step < 200; step++) {
+            IPile shrinking = piles.get((step * 3) % piles.size());
+            if (!shrinking.getCards().isEmpty()) {
+                shrinking.getCards().remove(0);
+            }
+            for (int excluded = 0; excluded < piles.size(); excluded++) {
+                int expected = -1;
+                int biggest = 0;
+                for (int i = 0; i < piles.size(); i++) {
+                    if (i != excluded && piles.get(i).getCards().size() > biggest) {
+                        biggest = piles.get(i).getCards().size();
+                        expected = i;
+                    }
+                }
+                int largest = group.largestOtherPile(excluded);
+                assertEquals(biggest, largest < 0 ? 0 : piles.get(largest).getCards().size());
+                if (biggest > 0) {
+                    assertEquals(expected, largest);
+                }
+            }
+        }
+    }
+
     /**
      * Tests Rule 9: Showing hand to other players.
      */
@@ -176,4 +274,162 @@ public class GameSetupAndTurnTests {
         assertNotNull(newVeggieCard);
         assertNotEquals(initialVeggieCard, newVeggieCard);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests Rule 10: Printing the market shows the card an empty pile would draw, without moving it.
+     */
+    @Test
+    void testPrintingMarketDoesNotChangePiles() throws IOException {
+        SaladGame game = new SaladGame(new String[]{"1", "1"});
+        ArrayList<IPile> piles = game.getGamePiles();
+        piles.get(0).getCards().clear();
+        int[] sizes = new int[piles.size()];
+        for (int i = 0; i < piles.size(); i++) {
+            sizes[i] = piles.get(i).getCards().size();
+        }
+
+        String market = game.getMarketView().printMarket();
+        assertSame(market, game.getMarketView().printMarket(), "An unchanged market should reuse its text");
+        for (int i = 0; i < piles.size(); i++) {
+            assertEquals(sizes[i], piles.get(i).getCards().size());
+        }
+
+        ICard offered = piles.get(0).peekPointCard(piles);
+        assertTrue(market.contains(offered.toString()));
+        assertSame(offered, piles.get(0).buyPointCard(piles));
+        assertNotSame(market, game.getMarketView().printMarket(), "Buying a card should refresh the market text");
+    }
+
+    /**
+     * Tests that the greedy bot takes a move no other point card, veggie or veggie pair beats.
+     */
+    @Test
+    void testGreedyBotTakesBestMove() throws IOException {
+        SaladGame game = new SaladGame(new String[]{"0", "2"}, 9);
+        SaladGreedyBotStrategy bot = new SaladGreedyBotStrategy(false);
+        IScoreCalculator calculator = game.getScoreCalculator();
+        ArrayList<IPile> piles = game.getGamePiles();
+
+        for (int turn = 0; turn < 12; turn++) {
+            IPlayer player = game.getPlayers().get(turn % 2);
+            ArrayList<ICard> market = new ArrayList<>();
+            for (int slot = 0; slot < 2 * piles.size(); slot++) {
+                market.add(piles.get(slot % piles.size()).getVeggieCard(slot / piles.size()));
+            }
+            int best = Integer.MIN_VALUE;
+            for (IPile pile : piles) {
+                best = Math.max(best, calculator.scoreDelta(player.getHand(), player, game.getPlayers(),
+                        pile.peekPointCard(piles), null));
+            }
+            for (int a = 0; a < market.size(); a++) {
+                for (int b = a; b < market.size(); b++) {
+                    best = Math.max(best, calculator.scoreDelta(player.getHand(), player, game.getPlayers(),
+                            market.get(a), a == b ? null : market.get(b)));
+                }
+            }
+
+            GameMove move = bot.chooseMove(game, player);
+            ICard first = move.getPointPile() >= 0 ? piles.get(move.getPointPile()).peekPointCard(piles)
+                    : market.get(move.getVeggieSlot(0));
+            ICard second = move.getVeggieCount() == 2 ? market.get(move.getVeggieSlot(1)) : null;
+            assertEquals(best, calculator.scoreDelta(player.getHand(), player, game.getPlayers(), first, second));
+            move.applyTo(game, player);
+        }
+    }
+
+    /**
+     * Tests that a bot search with a time budget stops at its deadline with a move to play.
+     */
+    @Test
+    void testBotSearchStopsAtDeadline() throws IOException {
+        SaladGame game = new SaladGame(new String[]{"0", "3"}, 13);
+        SaladMctsBotStrategy bot = new SaladMctsBotStrategy(Integer.MAX_VALUE, 0, new ForkJoinPool(1));
+
+        BotDecision decision = bot.decide(game, game.getPlayers().get(0), TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(decision.isTimedOut());
+        assertTrue(decision.getElapsedNanos() < TimeUnit.SECONDS.toNanos(1), "The search should stop at the deadline");
+        assertFalse(decision.getMove().isPass());
+        assertTrue(decision.getMove().applyTo(game, game.getPlayers().get(0)) > 0);
+    }
+
+    /**
+     * Tests that a bot search without time for a single playout plays the greedy move instead.
+     */
+    @Test
+    void testBotSearchFallsBackWithoutPlayouts() throws IOException {
+        SaladGame game = new SaladGame(new String[]{"0", "3"}, 13);
+        IPlayer bot = game.getPlayers().get(0);
+        SaladMctsBotStrategy search = new SaladMctsBotStrategy(Integer.MAX_VALUE, 0, new ForkJoinPool(1));
+
+        BotDecision decision = search.decide(game, bot, 0);
+        assertTrue(decision.isTimedOut());
+        assertEquals(0, decision.getPlayouts());
+        assertEquals(new SaladGreedyBotStrategy().chooseMove(game, bot), decision.getMove());
+    }
+
+    /**
+     * Tests that a bot turn played by a search bot keeps the report of its search.
+     */
+    @Test
+    void testBotTurnReportsSearch() throws IOException {
+        SaladGame game = new SaladGame(new String[]{"0", "3"}, 19);
+        IPlayer bot = game.getPlayers().get(0);
+        SaladBotTurnHandler handler = new SaladBotTurnHandler(game, new SaladMctsBotStrategy(40, new ForkJoinPool(1)));
+
+        handler.handleTurn(bot);
+        BotDecision decision = handler.getLastDecision();
+        assertNotNull(decision);
+        assertEquals(40, decision.getPlayouts());
+        assertFalse(decision.isTimedOut());
+    }
+
+    /**
+     * Tests that a search bot's time budget must be positive.
+     */
+    @Test
+    void testSearchBotRejectsNonPositiveBudget() {
+        assertThrows(IllegalArgumentException.class, () -> GameConfig.parseStrategies("mcts:0", 2));
+        assertThrows(IllegalArgumentException.class, () -> GameConfig.parseStrategies("greedy,mcts:-5", 2));
+        assertEquals(2, GameConfig.parseStrategies("mcts:50", 2).length);
+    }
+
+    /**
+     * Tests that the sampling bot chooses the same moves for the same seed, however many threads search.
+     */
+    @Test
+    void testSamplingBotIsDeterministicForSeed() throws IOException {
+        SaladGame sequential = new SaladGame(new String[]{"0", "3"}, 17);
+        SaladGame parallel = new SaladGame(new String[]{"0", "3"}, 17);
+        SaladExpectimaxBotStrategy oneThread = new SaladExpectimaxBotStrategy(6, 1, new ForkJoinPool(1));
+        SaladExpectimaxBotStrategy threeThreads = new SaladExpectimaxBotStrategy(6, 1, new ForkJoinPool(3));
+
+        for (int turn = 0; turn < 6; turn++) {
+            IPlayer first = sequential.getPlayers().get(turn % 3);
+            IPlayer second = parallel.getPlayers().get(turn % 3);
+            GameMove move = oneThread.chooseMove(sequential, first);
+            assertEquals(move, threeThreads.chooseMove(parallel, second));
+            move.applyTo(sequential, first);
+            move.applyTo(parallel, second);
+        }
+    }
+
+    /**
+     * Tests that the search bot chooses the same moves for the same seed, however many threads search.
+     */
+    @Test
+    void testSearchBotIsDeterministicForSeed() throws IOException {
+        SaladGame sequential = new SaladGame(new String[]{"0", "3"}, 23);
+        SaladGame parallel = new SaladGame(new String[]{"0", "3"}, 23);
+        SaladMctsBotStrategy oneThread = new SaladMctsBotStrategy(200, new ForkJoinPool(1));
+        SaladMctsBotStrategy threeThreads = new SaladMctsBotStrategy(200, new ForkJoinPool(3));
+
+        for (int turn = 0; turn < 6; turn++) {
+            IPlayer first = sequential.getPlayers().get(turn % 3);
+            IPlayer second = parallel.getPlayers().get(turn % 3);
+            GameMove move = oneThread.chooseMove(sequential, first);
+            assertEquals(move, threeThreads.chooseMove(parallel, second));
+            move.applyTo(sequential, first);
+            move.applyTo(parallel, second);
+        }
+    }
+}
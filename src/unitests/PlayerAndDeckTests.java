@@ -1,5 +1,11 @@
 package unitests;
 
+import card.CardCatalog;
+import card.ICard;
+import card.ICardCounter;
+import card.PackedCardArray;
+import card.SaladCardCounter;
+import card.Vegetable;
 import game.SaladGame;
 import network.SaladNetwork;
 import org.junit.jupiter.api.AfterEach;
@@ -8,7 +14,13 @@ import piles.IPile;
 import piles.SaladPile;
 import piles.SaladPileInitializer;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -143,4 +155,98 @@ public class PlayerAndDeckTests {
         assertTrue(Math.abs(pile1Size - pile2Size) <= 1);
         assertTrue(Math.abs(pile2Size - pile3Size) <= 1);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that packed cards keep the vegetable, criteria and side of every dealt card.
+     */
+    @Test
+    void testPackedCardsMatchDealtCards() throws Exception {
+        ArrayList<ICard> cards = new ArrayList<>();
+        int dealt = 0;
+        for (IPile pile : new SaladPileInitializer(6).getPiles()) {
+            for (ICard card : pile.getCards()) {
+                card.setCriteriaSideUp(dealt++ % 2 == 0);
+                cards.add(card);
+            }
+        }
+
+        PackedCardArray packed = new PackedCardArray(cards);
+        ArrayList<ICard> unpacked = packed.toCards();
+        assertEquals(cards.size(), unpacked.size());
+        for (int i = 0; i < cards.size(); i++) {
+            assertEquals(cards.get(i).getVegetable(), unpacked.get(i).getVegetable());
+            assertEquals(cards.get(i).getCriteria(), unpacked.get(i).getCriteria());
+            assertSame(cards.get(i).getScoringRule(), unpacked.get(i).getScoringRule());
+            assertEquals(cards.get(i).getCriteriaSideUp(), unpacked.get(i).getCriteriaSideUp());
+        }
+        assertArrayEquals(new SaladCardCounter().countHistogram(cards, new int[ICardCounter.HISTOGRAM_SIZE]),
+                packed.countHistogram(new int[ICardCounter.HISTOGRAM_SIZE]));
+    }
+
+    /**
+     * Tests that games share one catalog but never share card objects.
+     */
+    @Test
+    void testGamesShareCatalogButNotCards() throws Exception {
+        assertSame(CardCatalog.getDefault(), CardCatalog.getDefault());
+
+        ICard first = CardCatalog.getDefault().createCard(0, Vegetable.CARROT);
+        ICard second = CardCatalog.getDefault().createCard(0, Vegetable.CARROT);
+        assertNotSame(first, second);
+        assertSame(first.getScoringRule(), second.getScoringRule());
+
+        first.setCriteriaSideUp(false);
+        assertTrue(second.getCriteriaSideUp());
+    }
+
+    /**
+     * Tests that the binary card catalog holds the same cards as the JSON manifest.
+     */
+    @Test
+    void testBinaryCatalogMatchesJsonManifest() throws Exception {
+        CardCatalog json = CardCatalog.loadJson();
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        json.writeBinary(binary);
+        CardCatalog decoded = CardCatalog.fromBinary(ByteBuffer.wrap(binary.toByteArray()));
+
+        assertEquals(json.size(), decoded.size());
+        for (int entry = 0; entry < json.size(); entry++) {
+            for (Vegetable vegetable : Vegetable.values()) {
+                assertEquals(json.getCriteria(entry, vegetable), decoded.getCriteria(entry, vegetable));
+                assertEquals(json.getPackedCard(entry, vegetable), decoded.getPackedCard(entry, vegetable));
+            }
+        }
+        assertTrue(decoded.matchesManifest());
+        assertThrows(IllegalArgumentException.class, () -> CardCatalog.fromBinary(ByteBuffer.wrap(new byte[]{1, 2, 3})));
+    }
+
+    /**
+     * Tests that a binary catalog compiled from another manifest is detected as stale.
+     */
+    @Test
+    void testBinaryCatalogFromEditedManifestIsStale() throws Exception {
+        byte[] edited;
+        try (InputStream inputStream = CardCatalog.class.getClassLoader().getResourceAsStream(CardCatalog.MANIFEST)) {
+            String manifest = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            edited = (manifest + "\n").getBytes(StandardCharsets.UTF_8);
+        }
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        CardCatalog.fromJson(new ByteArrayInputStream(edited)).writeBinary(binary);
+
+        assertFalse(CardCatalog.fromBinary(ByteBuffer.wrap(binary.toByteArray())).matchesManifest());
+    }
+
+    /**
+     * Tests that dealing with the same seed gives the same piles.
+     */
+    @Test
+    void testSameSeedDealsSamePiles() throws Exception {
+        ArrayList<IPile> first = new SaladPileInitializer(4, CardCatalog.getDefault(), 3, new SplittableRandom(42)).getPiles();
+        ArrayList<IPile> second = new SaladPileInitializer(4, CardCatalog.getDefault(), 3, new SplittableRandom(42)).getPiles();
+        for (int p = 0; p < first.size(); p++) {
+            assertEquals(first.get(p).getCards().toString(), second.get(p).getCards().toString());
+            assertEquals(String.valueOf(first.get(p).getVeggieCard(0)), String.valueOf(second.get(p).getVeggieCard(0)));
+            assertEquals(String.valueOf(first.get(p).getVeggieCard(1)), String.valueOf(second.get(p).getVeggieCard(1)));
+        }
+    }
+}
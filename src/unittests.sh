@@ -31,6 +31,7 @@ javac -d $OUTPUT_DIR/production/PointSalad \
     $SOURCE_DIR/piles/*.java \
     $SOURCE_DIR/market/*.java \
     $SOURCE_DIR/scoring/*.java \
+    $SOURCE_DIR/engine/*.java \
     $SOURCE_DIR/app/*.java
 
 # Check if compilation was successful
@@ -39,6 +40,17 @@ if [ $? -ne 0 ]; then
     exit 1
 fi
 
+# Compile the card manifest into the binary catalog (the JSON manifest stays as a fallback)
+echo "Compiling card catalog..."
+java -cp "$OUTPUT_DIR/production/PointSalad;$LIB_DIR/$JSON_JAR" card.CardCatalogCompiler \
+    src/resources/PointSaladManifest.json "$OUTPUT_DIR/production/PointSalad/PointSaladCatalog.bin"
+
+# Check if catalog compilation was successful
+if [ $? -ne 0 ]; then
+    echo "Card catalog compilation failed."
+    exit 1
+fi
+
 # Compile the test code
 echo "Compiling test code..."
 javac -d "$OUTPUT_DIR/test/PointSalad" \